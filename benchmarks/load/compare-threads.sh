@@ -0,0 +1,61 @@
+#!/bin/bash
+# 플랫폼 스레드 vs 가상 스레드 요청 처리 비교 (검색 / 상세 / 로그인)
+#
+# 같은 jar(Java 21 빌드)를 두 모드로 차례로 띄워 동일한 부하를 주고 결과를 표로 비교한다.
+#   BASE_PROFILE=prod  benchmarks/load/compare-threads.sh   # PostgreSQL (docker/docker-run.sh)
+#   BASE_PROFILE=local benchmarks/load/compare-threads.sh   # H2 인메모리 (기본값)
+#   LOAD_ARGS="--concurrency=400 --duration=120" benchmarks/load/compare-threads.sh
+#
+# 결과: build/load/<commit>/{platform,virtual}.json, 서버 로그는 같은 디렉토리의 *.log
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+BASE_PROFILE=${BASE_PROFILE:-local}
+PORT=${PORT:-8080}
+HEAP=${HEAP:-1g}
+LOAD_ARGS=${LOAD_ARGS:-}
+OUT=build/load/$(git rev-parse --short HEAD)
+
+JAVA_VERSION=$(java -XshowSettings:properties -version 2>&1 | awk '/java.specification.version/ {print $3}')
+if [ "${JAVA_VERSION%%.*}" -lt 21 ]; then
+  echo "Java 21 이상이 필요합니다 (현재: ${JAVA_VERSION})" >&2
+  exit 1
+fi
+
+./gradlew -q bootJar -PjavaVersion=21
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+mkdir -p "$OUT"
+
+run_mode() {
+  local label=$1 profiles=$2
+
+  # 두 모드 모두 새 JVM에서 같은 힙/데이터로 시작 (H2는 실행마다 초기화됨)
+  java -Xms"$HEAP" -Xmx"$HEAP" -Djdk.tracePinnedThreads=short \
+    -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profiles" \
+    --spring.config.additional-location=file:src/loadTest/resources/ > "$OUT/$label.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  until curl -sf "http://localhost:$PORT/api/products" > /dev/null; do
+    kill -0 "$pid" 2>/dev/null || { echo "서버 시작 실패: $OUT/$label.log" >&2; exit 1; }
+    sleep 1
+  done
+
+  ./gradlew -q loadTest -PjavaVersion=21 \
+    -PloadTestArgs="--base-url=http://localhost:$PORT --label=$label --out=$OUT/$label.json $LOAD_ARGS"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform "$BASE_PROFILE,perf"
+run_mode virtual "$BASE_PROFILE,perf,vthreads"
+
+./gradlew -q loadTest -PjavaVersion=21 -PloadTestArgs="--compare $OUT/platform.json $OUT/virtual.json"
+
+# 가상 스레드 모드에서 캐리어 고정이 발생했다면 스택이 로그에 남는다
+if grep -q "onPinned\|<== monitors" "$OUT/virtual.log"; then
+  echo "경고: 캐리어 스레드 고정 발생 → $OUT/virtual.log" >&2
+fi
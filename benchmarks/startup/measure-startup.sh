@@ -0,0 +1,111 @@
+#!/bin/bash
+# 기동 시간 비교: 기본 jar / AppCDS / Spring AOT / AOT + AppCDS
+#
+# 같은 JDK, 같은 프로파일, 같은 힙으로 변형마다 RUNS번 새 JVM을 띄워 측정하고 변형별 중앙값을 출력한다.
+#  - ready_ms   : 프로세스 시작 → 첫 요청(GET /api/products) 200 응답
+#  - rss_mb     : 첫 요청 성공 시점의 RSS
+#  - started_s  : Spring이 기록한 기동 시간 ("Started ShopApplication in N seconds")
+#
+#   benchmarks/startup/measure-startup.sh                                 # H2 인메모리 (기본값)
+#   PROFILES=prod,perf RUNS=10 benchmarks/startup/measure-startup.sh      # PostgreSQL (docker/docker-run.sh)
+#
+# 결과: build/startup/<commit>/results.csv, 서버 로그는 같은 디렉토리의 <변형>-<회차>.log (Linux, GNU date 기준)
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+PROFILES=${PROFILES:-local,perf}
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+HEAP=${HEAP:-512m}
+OUT=build/startup/$(git rev-parse --short HEAD)
+
+# 빌드 툴체인을 측정 JDK에 맞춤 (CDS 아카이브는 만든 JDK에서만 사용 가능)
+JAVA_VERSION=$(java -XshowSettings:properties -version 2>&1 | awk '/java.specification.version/ {print $3}')
+GRADLE=(./gradlew -q -PjavaVersion="${JAVA_VERSION%%.*}" -PstartupProfiles="$PROFILES")
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+
+# 1. jar 빌드 + CDS 학습 실행 (컨텍스트 refresh 직후 종료)
+#    clean 하면 build/startup 도 지워지므로 하지 않음 (AOT 클래스는 -Paot 빌드의 bootJar에만 포함됨)
+build_variant() {
+  local name=$1 aot=$2
+  local gradle_args=(bootJar) java_args=()
+  if [ "$aot" = "aot" ]; then
+    gradle_args+=(-Paot)
+    java_args+=(-Dspring.aot.enabled=true)
+  fi
+
+  "${GRADLE[@]}" "${gradle_args[@]}"
+  mkdir -p "$OUT/$name"
+  cp "$(ls build/libs/*.jar | grep -v plain | head -1)" "$OUT/$name/app.jar"
+
+  java -Djarmode=tools -jar "$OUT/$name/app.jar" extract --destination "$OUT/$name/extracted"
+  java -XX:ArchiveClassesAtExit="$OUT/$name/application.jsa" -Dspring.context.exit=onRefresh "${java_args[@]}" \
+    -jar "$OUT/$name/extracted/app.jar" --spring.profiles.active="$PROFILES" --server.port=0 \
+    --spring.config.additional-location=file:src/loadTest/resources/ \
+    > "$OUT/$name/training.log" 2>&1
+}
+
+build_variant jvm jvm
+build_variant aot aot
+
+# 2. 측정
+echo "variant,run,ready_ms,rss_mb,started_s" > "$OUT/results.csv"
+
+measure() {
+  local variant=$1
+  shift
+
+  for run in $(seq 1 "$RUNS"); do
+    local log="$OUT/$variant-$run.log"
+    local start ready pid rss started
+    start=$(date +%s%N)
+    java -Xms"$HEAP" -Xmx"$HEAP" "$@" --server.port="$PORT" --spring.profiles.active="$PROFILES" \
+      --spring.config.additional-location=file:src/loadTest/resources/ > "$log" 2>&1 &
+    pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -sf -o /dev/null "http://localhost:$PORT/api/products"; do
+      kill -0 "$pid" 2>/dev/null || { echo "서버 시작 실패: $log" >&2; exit 1; }
+      sleep 0.02
+    done
+    ready=$(date +%s%N)
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    started=$(grep -o 'Started ShopApplication in [0-9.]*' "$log" | awk '{print $4}')
+
+    echo "$variant,$run,$(( (ready - start) / 1000000 )),$(( rss / 1024 )),$started" >> "$OUT/results.csv"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+  done
+}
+
+# -Xshare:on: 아카이브를 쓸 수 없으면 조용히 건너뛰지 않고 기동 실패
+measure baseline -jar "$OUT/jvm/app.jar"
+measure cds -Xshare:on -XX:SharedArchiveFile="$OUT/jvm/application.jsa" -jar "$OUT/jvm/extracted/app.jar"
+measure aot -Dspring.aot.enabled=true -jar "$OUT/aot/app.jar"
+measure aot-cds -Xshare:on -XX:SharedArchiveFile="$OUT/aot/application.jsa" -Dspring.aot.enabled=true \
+  -jar "$OUT/aot/extracted/app.jar"
+
+# 3. 변형별 중앙값 (baseline 대비 %)
+median() {
+  awk -F, -v v="$1" -v c="$2" 'NR > 1 && $1 == v {print $c}' "$OUT/results.csv" | sort -n \
+    | awk '{a[NR] = $1} END {print (NR % 2) ? a[(NR + 1) / 2] : (a[NR / 2] + a[NR / 2 + 1]) / 2}'
+}
+
+base_ready=$(median baseline 3)
+base_rss=$(median baseline 4)
+printf "\n%-10s %12s %8s %10s %8s %10s\n" variant ready_ms "" rss_mb "" started_s
+for variant in baseline cds aot aot-cds; do
+  ready=$(median "$variant" 3)
+  rss=$(median "$variant" 4)
+  ready_diff=$(echo "($ready - $base_ready) * 100 / $base_ready" | bc -l)
+  rss_diff=$(echo "($rss - $base_rss) * 100 / $base_rss" | bc -l)
+  printf "%-10s %12s %7.1f%% %10s %7.1f%% %10s\n" \
+    "$variant" "$ready" "$ready_diff" "$rss" "$rss_diff" "$(median "$variant" 5)"
+done
+echo
+echo "결과: $OUT/results.csv"
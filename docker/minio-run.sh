@@ -0,0 +1,14 @@
+#!/bin/bash
+# 로컬 S3 호환 스텁 (Presigned 업로드 테스트용)
+docker run -d \
+  --name shoemoa-minio \
+  -p 9000:9000 \
+  -p 9001:9001 \
+  -e MINIO_ROOT_USER=minioadmin \
+  -e MINIO_ROOT_PASSWORD=minioadmin \
+  minio/minio server /data --console-address ":9001"
+
+# 버킷 생성
+sleep 3
+docker run --rm --network host --entrypoint sh minio/mc -c \
+  "mc alias set local http://localhost:9000 minioadmin minioadmin && mc mb -p local/s3-shoemoa"
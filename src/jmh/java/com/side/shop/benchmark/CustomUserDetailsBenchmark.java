@@ -0,0 +1,39 @@
+package com.side.shop.benchmark;
+
+import com.side.shop.member.domain.Member;
+import com.side.shop.member.domain.MemberRole;
+import com.side.shop.security.auth.CustomUserDetails;
+import java.util.Collection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+/**
+ * 요청마다 생성되는 CustomUserDetails 생성 + 권한 조회 비용
+ */
+@State(Scope.Benchmark)
+public class CustomUserDetailsBenchmark {
+
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        member = EntityIds.assign(
+                Member.createUser("user@example.com", "password123", NoOpPasswordEncoder.getInstance()), 1L);
+    }
+
+    // JwtAuthenticationFilter 경로 (토큰 정보로 생성)
+    @Benchmark
+    public Collection<? extends GrantedAuthority> fromToken() {
+        return new CustomUserDetails(1L, "user@example.com", MemberRole.USER).getAuthorities();
+    }
+
+    // CustomUserDetailsService 경로 (엔티티로 생성)
+    @Benchmark
+    public Collection<? extends GrantedAuthority> fromMember() {
+        return new CustomUserDetails(member).getAuthorities();
+    }
+}
@@ -0,0 +1,22 @@
+package com.side.shop.benchmark;
+
+import java.lang.reflect.Field;
+
+/**
+ * 벤치마크용 엔티티 ID 주입 (DB 없이 영속 상태를 흉내)
+ */
+final class EntityIds {
+
+    private EntityIds() {}
+
+    static <T> T assign(T entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.side.shop.benchmark;
+
+import com.side.shop.security.jwt.JwtProperties;
+import com.side.shop.security.jwt.JwtTokenProvider;
+import com.side.shop.security.jwt.TokenClaims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 발급 / 검증 비용
+ * - issue: generateToken (HMAC 서명)
+ * - parse: 캐시를 거치지 않는 파싱 + 서명 검증
+ * - resolveCached: 필터 경로 (검증된 토큰 캐시 hit)
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-at-least-256-bits";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setExpiration(3600000L);
+        jwtProperties.setRefreshExpiration(604800000L);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        accessToken = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+        jwtTokenProvider.resolveToken(accessToken);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+    }
+
+    @Benchmark
+    public Long parse() {
+        return jwtTokenProvider.getMemberIdFromToken(accessToken);
+    }
+
+    @Benchmark
+    public TokenClaims resolveCached() {
+        return jwtTokenProvider.resolveToken(accessToken);
+    }
+}
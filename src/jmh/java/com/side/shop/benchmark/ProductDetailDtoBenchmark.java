@@ -0,0 +1,49 @@
+package com.side.shop.benchmark;
+
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.domain.ProductImage;
+import com.side.shop.product.domain.ProductOption;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 엔티티 → 상품 상세 DTO 매핑 비용 (ProductDetailDto.of)
+ */
+@State(Scope.Benchmark)
+public class ProductDetailDtoBenchmark {
+
+    @Param({"10", "50"})
+    public int optionCount;
+
+    @Param({"5"})
+    public int imageCount;
+
+    private Product product;
+    private List<ProductImage> images;
+
+    @Setup
+    public void setUp() {
+        product = EntityIds.assign(Product.create("나이키 에어포스", "나이키", "설명", "white", 139000), 1L);
+        for (int i = 0; i < optionCount; i++) {
+            product.addOption(EntityIds.assign(ProductOption.create(220 + i * 5, 10), (long) i + 1));
+        }
+
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            imageUrls.add("https://cdn.example.com/products/1/images/" + i + ".jpg");
+        }
+        product.addImages(imageUrls);
+        images = product.getImages();
+    }
+
+    @Benchmark
+    public ProductDetailDto of() {
+        return ProductDetailDto.of(product, images);
+    }
+}
@@ -0,0 +1,37 @@
+package com.side.shop.benchmark;
+
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.domain.ProductOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 옵션이 많은 상품에서 Product.getOption 조회 비용
+ * 최악의 경우(마지막 옵션)를 측정
+ */
+@State(Scope.Benchmark)
+public class ProductOptionLookupBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int optionCount;
+
+    private Product product;
+    private Long lastOptionId;
+
+    @Setup
+    public void setUp() {
+        product = EntityIds.assign(Product.create("나이키 에어포스", "나이키", "설명", "white", 139000), 1L);
+        for (int i = 0; i < optionCount; i++) {
+            product.addOption(EntityIds.assign(ProductOption.create(100 + i, 10), (long) i + 1));
+        }
+        lastOptionId = (long) optionCount;
+    }
+
+    @Benchmark
+    public ProductOption getLastOption() {
+        return product.getOption(lastOptionId);
+    }
+}
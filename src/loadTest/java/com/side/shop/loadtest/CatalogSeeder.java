@@ -0,0 +1,341 @@
+package com.side.shop.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 성능 테스트용 대용량 카탈로그 생성기 (H2, PostgreSQL)
+ *
+ * 상품/옵션/이미지/회원을 JDBC 배치 INSERT로 채운다. 스키마는 애플리케이션(ddl-auto)이 만든 것을 그대로 사용하며,
+ * 상품 ID를 1부터 채우므로 상품 테이블이 비어 있어야 한다 (--truncate).
+ * 모든 값은 seed와 행 ID로부터 계산되므로 배치 크기나 실행 환경과 관계없이 같은 seed면 같은 데이터가 만들어진다.
+ *
+ * 분포 (실제 쇼핑몰처럼 치우치게)
+ * - 브랜드: Zipf (상위 몇 개 브랜드에 상품이 몰림)
+ * - 색상: 가중치 (블랙/화이트 위주)
+ * - 가격: 로그 정규 분포 (중앙값 약 12만원, 1,000원 단위)
+ * - 사이즈: 상품마다 연속된 사이즈 구간, 250~270 근처가 가장 많음. 옵션의 약 20%는 재고 0
+ * - 등록일: 최근 3년, 최근일수록 많음
+ *
+ * <pre>
+ * ./gradlew seedCatalog -PseedArgs="--url=jdbc:postgresql://localhost:5432/shoemoa --user=shoemoa --password=shoemoa"
+ * ./gradlew seedCatalog -PseedArgs="--url=jdbc:h2:file:./build/perfdb --products=100000 --truncate"
+ * </pre>
+ */
+public class CatalogSeeder {
+
+    private static final String[] BRANDS = {
+        "나이키", "아디다스", "뉴발란스", "컨버스", "반스", "푸마", "아식스", "호카", "살로몬", "리복",
+        "휠라", "닥터마틴", "크록스", "어그", "팀버랜드", "오니츠카타이거", "미즈노", "브룩스", "온", "사코니",
+        "디스커버리", "프로스펙스", "르까프", "K2", "노스페이스", "머렐", "킨", "버켄스탁", "클락스", "탠디"
+    };
+    private static final String[] MODELS = {"러닝", "스니커즈", "부츠", "로퍼", "슬립온", "샌들", "트레일", "코트", "하이탑", "워커"};
+    private static final String[] COLORS = {
+        "black", "white", "gray", "navy", "beige", "brown", "red", "green", "blue", "pink"
+    };
+    private static final double[] COLOR_WEIGHTS = {30, 25, 10, 8, 7, 6, 4, 4, 3, 3};
+
+    // 220 ~ 300 (5 단위)
+    private static final int MIN_SIZE = 220;
+    private static final int SIZE_STEP = 5;
+    private static final int SIZE_COUNT = 17;
+
+    private static final Duration CREATED_RANGE = Duration.ofDays(365 * 3);
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final String SEED_EMAIL_DOMAIN = "@seed.shoemoa.com";
+
+    private final Options options;
+    private final double[] brandCumulative = cumulative(zipfWeights(BRANDS.length, 1.1));
+    private final double[] colorCumulative = cumulative(COLOR_WEIGHTS);
+
+    public CatalogSeeder(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(args);
+        try (Connection connection =
+                DriverManager.getConnection(jdbcUrl(options.url), options.user, options.password)) {
+            new CatalogSeeder(options).seed(connection);
+        }
+    }
+
+    public void seed(Connection connection) throws SQLException {
+        connection.setAutoCommit(false);
+
+        // 1. 기존 시드 데이터 정리 (상품은 전부, 회원은 시드 계정만)
+        if (options.truncate) {
+            truncate(connection);
+        }
+
+        // 2. 상품 + 옵션 + 이미지 (상품 배치 단위로 커밋)
+        long startedAt = System.nanoTime();
+        long optionId = 0;
+        long imageId = 0;
+        for (long from = 1; from <= options.products; from += options.batchSize) {
+            long to = Math.min(from + options.batchSize - 1, options.products);
+            long[] ids = insertProducts(connection, from, to, optionId, imageId);
+            optionId = ids[0];
+            imageId = ids[1];
+            connection.commit();
+            progress("product", to, options.products, startedAt);
+        }
+
+        // 3. 회원
+        insertMembers(connection);
+
+        // 4. 앱이 이어서 사용할 시퀀스 위치 조정 + 통계 갱신
+        restartSequence(connection, "product_seq", options.products);
+        restartSequence(connection, "product_option_seq", optionId);
+        restartSequence(connection, "product_image_seq", imageId);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        connection.commit();
+
+        System.out.printf(
+                "완료: product=%d, option=%d, image=%d, member=%d (%.1fs)%n",
+                options.products, optionId, imageId, options.members, (System.nanoTime() - startedAt) / 1e9);
+    }
+
+    /**
+     * @return 마지막으로 사용한 옵션 ID, 이미지 ID
+     */
+    private long[] insertProducts(Connection connection, long from, long to, long optionId, long imageId)
+            throws SQLException {
+        try (PreparedStatement product = connection.prepareStatement(
+                        "insert into product (id, name, brand, description, color, price, created_at, last_modified_at)"
+                                + " values (?, ?, ?, ?, ?, ?, ?, ?)");
+                PreparedStatement option = connection.prepareStatement(
+                        "insert into product_option (id, product_id, product_size, stock, created_at, last_modified_at)"
+                                + " values (?, ?, ?, ?, ?, ?)");
+                PreparedStatement image = connection.prepareStatement(
+                        "insert into product_image"
+                                + " (id, product_id, image_url, sort_order, thumbnail, width, height,"
+                                + " created_at, last_modified_at)"
+                                + " values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+            for (long id = from; id <= to; id++) {
+                SplittableRandom random = random("product", id);
+
+                String brand = BRANDS[pick(brandCumulative, random)];
+                String model = MODELS[random.nextInt(MODELS.length)];
+                Timestamp createdAt = Timestamp.valueOf(
+                        BASE_TIME.minusSeconds((long) (CREATED_RANGE.toSeconds() * Math.pow(random.nextDouble(), 2))));
+
+                product.setLong(1, id);
+                product.setString(2, "%s %s %d".formatted(brand, model, id));
+                product.setString(3, brand);
+                product.setString(4, "%s %s 상품 설명 %d".formatted(brand, model, id));
+                product.setString(5, COLORS[pick(colorCumulative, random)]);
+                product.setInt(6, price(random));
+                product.setTimestamp(7, createdAt);
+                product.setTimestamp(8, createdAt);
+                product.addBatch();
+
+                // 옵션: 평균 optionsPerProduct 개의 연속된 사이즈
+                int optionCount = Math.min(SIZE_COUNT, 1 + random.nextInt(options.optionsPerProduct * 2 - 1));
+                int firstSize = firstSizeIndex(random, optionCount);
+                for (int i = 0; i < optionCount; i++) {
+                    option.setLong(1, ++optionId);
+                    option.setLong(2, id);
+                    option.setInt(3, MIN_SIZE + (firstSize + i) * SIZE_STEP);
+                    option.setInt(4, random.nextInt(5) == 0 ? 0 : 1 + random.nextInt(50));
+                    option.setTimestamp(5, createdAt);
+                    option.setTimestamp(6, createdAt);
+                    option.addBatch();
+                }
+
+                // 이미지: 평균 imagesPerProduct 장, 첫 장이 썸네일
+                int imageCount = random.nextInt(options.imagesPerProduct * 2 + 1);
+                for (int i = 0; i < imageCount; i++) {
+                    image.setLong(1, ++imageId);
+                    image.setLong(2, id);
+                    image.setString(3, "https://cdn.seed.shoemoa.com/products/%d/images/%d.jpg".formatted(id, i));
+                    image.setInt(4, i);
+                    image.setBoolean(5, i == 0);
+                    image.setInt(6, 800);
+                    image.setInt(7, 800);
+                    image.setTimestamp(8, createdAt);
+                    image.setTimestamp(9, createdAt);
+                    image.addBatch();
+                }
+            }
+
+            product.executeBatch();
+            option.executeBatch();
+            image.executeBatch();
+        }
+        return new long[] {optionId, imageId};
+    }
+
+    private void insertMembers(Connection connection) throws SQLException {
+        // 모든 시드 회원은 같은 비밀번호 (해시는 한 번만 계산, 로그인 부하 테스트에 사용)
+        String password = new BCryptPasswordEncoder(options.bcryptStrength).encode(options.memberPassword);
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME);
+        long startedAt = System.nanoTime();
+
+        try (PreparedStatement member = connection.prepareStatement(
+                "insert into members (email, password, role, email_verified, created_at, last_modified_at)"
+                        + " values (?, ?, 'USER', true, ?, ?)")) {
+            for (long id = 1; id <= options.members; id++) {
+                member.setString(1, memberEmail(id));
+                member.setString(2, password);
+                member.setTimestamp(3, createdAt);
+                member.setTimestamp(4, createdAt);
+                member.addBatch();
+
+                if (id % options.batchSize == 0 || id == options.members) {
+                    member.executeBatch();
+                    connection.commit();
+                    progress("member", id, options.members, startedAt);
+                }
+            }
+        }
+    }
+
+    private void truncate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("delete from product_image");
+            statement.execute("delete from product_option");
+            statement.execute("delete from product");
+            statement.execute("delete from members where email like '%" + SEED_EMAIL_DOMAIN + "'");
+        }
+        connection.commit();
+    }
+
+    private void restartSequence(Connection connection, String sequence, long lastId) throws SQLException {
+        // Hibernate pooled 최적화는 시퀀스 값 기준으로 allocationSize(50)만큼 앞의 ID도 사용하므로 여유를 둔다
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter sequence %s restart with %d".formatted(sequence, lastId + 100));
+        }
+    }
+
+    public static String memberEmail(long id) {
+        return "user" + id + SEED_EMAIL_DOMAIN;
+    }
+
+    private SplittableRandom random(String kind, long id) {
+        // 행마다 독립된 난수열: 배치 크기/실행 순서와 무관하게 같은 값
+        return new SplittableRandom(options.seed * 31 + kind.hashCode() * 0x9E3779B97F4A7C15L + id);
+    }
+
+    private int price(SplittableRandom random) {
+        // 로그 정규 분포 (중앙값 120,000원), 10,000 ~ 1,000,000원, 1,000원 단위
+        double gaussian = gaussian(random);
+        double price = Math.exp(Math.log(120_000) + 0.5 * gaussian);
+        return (int) Math.max(10_000, Math.min(1_000_000, Math.round(price / 1_000) * 1_000));
+    }
+
+    private int firstSizeIndex(SplittableRandom random, int optionCount) {
+        // 중심 사이즈 260 근처 정규 분포, 구간이 220~300을 벗어나지 않도록 보정
+        int center = (int) Math.round((260 - MIN_SIZE) / (double) SIZE_STEP + gaussian(random) * 2);
+        int first = center - optionCount / 2;
+        return Math.max(0, Math.min(SIZE_COUNT - optionCount, first));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller (SplittableRandom에는 nextGaussian이 없음)
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static double[] zipfWeights(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return weights;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private static String jdbcUrl(String url) {
+        // PostgreSQL 드라이버는 이 옵션이 있어야 배치를 multi-row INSERT 한 번으로 보냄
+        if (url.startsWith("jdbc:postgresql:") && !url.contains("reWriteBatchedInserts")) {
+            return url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        }
+        return url;
+    }
+
+    private void progress(String kind, long done, long total, long startedAt) {
+        // 배치 20개마다 한 번 출력
+        if (done == total || done % (options.batchSize * 20L) == 0) {
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            System.out.printf("%s %d/%d (%.0f rows/s)%n", kind, done, total, done / Math.max(seconds, 0.001));
+        }
+    }
+
+    /**
+     * --key=value 형식 실행 옵션
+     */
+    public static class Options {
+
+        String url = "jdbc:postgresql://localhost:5432/shoemoa";
+        String user = "shoemoa";
+        String password = "shoemoa";
+        long products = 1_000_000;
+        int optionsPerProduct = 10;
+        int imagesPerProduct = 5;
+        long members = 1_000_000;
+        String memberPassword = "password123!";
+        int bcryptStrength = 10;
+        long seed = 42;
+        int batchSize = 5_000;
+        boolean truncate;
+
+        public static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+                String value = pair.length == 2 ? pair[1] : "true";
+                switch (pair[0]) {
+                    case "url" -> options.url = value;
+                    case "user" -> options.user = value;
+                    case "password" -> options.password = value;
+                    case "products" -> options.products = Long.parseLong(value);
+                    case "options-per-product" -> options.optionsPerProduct = Integer.parseInt(value);
+                    case "images-per-product" -> options.imagesPerProduct = Integer.parseInt(value);
+                    case "members" -> options.members = Long.parseLong(value);
+                    case "member-password" -> options.memberPassword = value;
+                    case "bcrypt-strength" -> options.bcryptStrength = Integer.parseInt(value);
+                    case "seed" -> options.seed = Long.parseLong(value);
+                    case "batch-size" -> options.batchSize = Integer.parseInt(value);
+                    case "truncate" -> options.truncate = Boolean.parseBoolean(value);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+                }
+            }
+            if (options.optionsPerProduct < 1 || options.imagesPerProduct < 0) {
+                throw new IllegalArgumentException("options-per-product는 1 이상, images-per-product는 0 이상이어야 합니다.");
+            }
+            return options;
+        }
+    }
+}
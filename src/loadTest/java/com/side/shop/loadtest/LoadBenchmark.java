@@ -0,0 +1,359 @@
+package com.side.shop.loadtest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 요청 처리 모드(플랫폼 스레드 / 가상 스레드) 비교용 HTTP 부하 벤치마크
+ *
+ * 실행 중인 서버에 검색, 상세, 로그인 시나리오를 차례로 보내고 처리량과 지연 분위수를 JSON으로 남긴다.
+ * 각 시나리오는 concurrency 개의 워커가 응답을 받자마자 다음 요청을 보내는 closed-loop 방식이며,
+ * 워커별 난수 시드가 고정되어 있어 같은 옵션이면 같은 요청 순서가 재현된다.
+ *
+ * <pre>
+ * ./gradlew loadTest -PloadTestArgs="--label=platform --out=build/load/platform.json"
+ * ./gradlew loadTest -PloadTestArgs="--compare build/load/platform.json build/load/virtual.json"
+ * </pre>
+ */
+public class LoadBenchmark {
+
+    private static final ObjectMapper objectMapper =
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String[] SEARCH_NAMES = {"", "러닝", "스니커즈", "부츠", "Bench"};
+    private static final String[] SORT_TYPES = {"LATEST", "PRICE_ASC", "PRICE_DESC", "NAME_ASC"};
+
+    private final Options options;
+    private final HttpClient httpClient;
+    private final List<Long> productIds = new ArrayList<>();
+
+    public LoadBenchmark(Options options) {
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (options.compare != null) {
+            compare(Path.of(options.compare.get(0)), Path.of(options.compare.get(1)));
+            return;
+        }
+
+        Report report = new LoadBenchmark(options).run();
+        System.out.println(objectMapper.writeValueAsString(report));
+
+        if (options.out != null) {
+            Path out = Path.of(options.out);
+            if (out.getParent() != null) {
+                Files.createDirectories(out.getParent());
+            }
+            objectMapper.writeValue(out.toFile(), report);
+        }
+    }
+
+    public Report run() throws Exception {
+        // 1. 관리자 로그인 후 상품 준비 (상세 조회 대상, CatalogSeeder로 채운 DB면 생성하지 않음)
+        String accessToken = login();
+        if (options.seededProducts == 0) {
+            prepareProducts(accessToken);
+        }
+
+        // 2. 시나리오별 워밍업 → 측정
+        List<ScenarioResult> results = new ArrayList<>();
+        for (String scenario : options.scenarios) {
+            measure(scenario, options.warmup);
+            results.add(measure(scenario, options.duration));
+        }
+
+        return new Report(options.label, Runtime.version().toString(), options.concurrency, results);
+    }
+
+    private ScenarioResult measure(String scenario, Duration duration) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try {
+            List<Future<Samples>> futures = new ArrayList<>();
+            for (int i = 0; i < options.concurrency; i++) {
+                Random random = new Random(options.seed + i);
+                futures.add(workers.submit(() -> runWorker(scenario, random, deadline)));
+            }
+
+            Samples total = new Samples();
+            for (Future<Samples> future : futures) {
+                total.addAll(future.get());
+            }
+            return total.toResult(scenario, duration);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Samples runWorker(String scenario, Random random, long deadline) {
+        Samples samples = new Samples();
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = createRequest(scenario, random);
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.add(System.nanoTime() - start, success);
+        }
+        return samples;
+    }
+
+    private HttpRequest createRequest(String scenario, Random random) {
+        return switch (scenario) {
+            case "search" -> get("/api/products?name=%s&sortType=%s&page=%d"
+                    .formatted(
+                            URLEncoder.encode(SEARCH_NAMES[random.nextInt(SEARCH_NAMES.length)], UTF_8),
+                            SORT_TYPES[random.nextInt(SORT_TYPES.length)],
+                            random.nextInt(3)));
+            case "detail" -> get("/api/products/" + productId(random));
+            case "login" -> post("/api/members/login", loginBody(), null);
+            default -> throw new IllegalArgumentException("지원하지 않는 시나리오입니다: " + scenario);
+        };
+    }
+
+    private long productId(Random random) {
+        if (options.seededProducts > 0) {
+            return 1 + random.nextLong(options.seededProducts);
+        }
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+
+    private String login() throws Exception {
+        HttpResponse<String> response =
+                httpClient.send(post("/api/members/login", loginBody(), null), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("관리자 로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private void prepareProducts(String accessToken) throws Exception {
+        Random random = new Random(options.seed);
+        for (int i = 0; i < options.products; i++) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("name", "Bench %s %d".formatted(SEARCH_NAMES[1 + i % (SEARCH_NAMES.length - 1)], i));
+            body.put("brand", "BENCH");
+            body.put("description", "부하 테스트용 상품 " + i);
+            body.put("color", i % 2 == 0 ? "BLACK" : "WHITE");
+            body.put("price", 50_000 + random.nextInt(100) * 1_000);
+            body.put("options", List.of(Map.of("size", 250, "stock", 100), Map.of("size", 260, "stock", 100)));
+
+            HttpResponse<String> response = httpClient.send(
+                    post("/api/products", objectMapper.writeValueAsString(body), accessToken),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("상품 생성 실패: " + response.statusCode() + " " + response.body());
+            }
+            JsonNode json = objectMapper.readTree(response.body());
+            productIds.add(json.get("productId").asLong());
+        }
+    }
+
+    private String loginBody() {
+        return "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(options.email, options.password);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+                .timeout(options.requestTimeout)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+                .timeout(options.requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 두 결과 파일을 시나리오별로 나란히 출력 (처리량 비율, p99 비율)
+     */
+    static void compare(Path baselinePath, Path candidatePath) throws IOException {
+        Report baseline = objectMapper.readValue(baselinePath.toFile(), Report.class);
+        Report candidate = objectMapper.readValue(candidatePath.toFile(), Report.class);
+
+        System.out.printf(
+                "%-8s | %12s %12s %7s | %10s %10s %7s | %7s %7s%n",
+                "scenario",
+                baseline.label() + " rps",
+                candidate.label() + " rps",
+                "ratio",
+                "p99 ms",
+                "p99 ms",
+                "ratio",
+                "errors",
+                "errors");
+        for (ScenarioResult base : baseline.scenarios()) {
+            candidate.scenarios().stream()
+                    .filter(result -> result.scenario().equals(base.scenario()))
+                    .findFirst()
+                    .ifPresent(other -> System.out.printf(
+                            "%-8s | %12.1f %12.1f %6.2fx | %10.2f %10.2f %6.2fx | %7d %7d%n",
+                            base.scenario(),
+                            base.throughput(),
+                            other.throughput(),
+                            other.throughput() / base.throughput(),
+                            base.p99Millis(),
+                            other.p99Millis(),
+                            other.p99Millis() / base.p99Millis(),
+                            base.errors(),
+                            other.errors()));
+        }
+    }
+
+    public record Report(String label, String javaVersion, int concurrency, List<ScenarioResult> scenarios) {}
+
+    public record ScenarioResult(
+            String scenario,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis) {}
+
+    /**
+     * 워커 한 개가 기록한 지연 시간 (나노초)
+     */
+    private static class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        ScenarioResult toResult(String scenario, Duration duration) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            double seconds = duration.toNanos() / 1e9;
+            return new ScenarioResult(
+                    scenario,
+                    size,
+                    errors,
+                    size / seconds,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+
+    /**
+     * --key=value 형식 실행 옵션
+     */
+    static class Options {
+
+        String baseUrl = "http://localhost:8080";
+        String label = "run";
+        String out;
+        String email = "admin@shoemoa.com";
+        String password = System.getenv().getOrDefault("ADMIN_PW", "bench-admin-pw");
+        List<String> scenarios = List.of("search", "detail", "login");
+        int concurrency = 200;
+        int products = 200;
+        long seededProducts = 0;
+        long seed = 42;
+        Duration warmup = Duration.ofSeconds(20);
+        Duration duration = Duration.ofSeconds(60);
+        Duration requestTimeout = Duration.ofSeconds(30);
+        List<String> compare;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--compare")) {
+                    options.compare = List.of(args[++i], args[++i]);
+                    continue;
+                }
+
+                String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+                }
+                String value = pair[1];
+                switch (pair[0]) {
+                    case "base-url" -> options.baseUrl = value;
+                    case "label" -> options.label = value;
+                    case "out" -> options.out = value;
+                    case "email" -> options.email = value;
+                    case "password" -> options.password = value;
+                    case "scenarios" -> options.scenarios = List.of(value.split(","));
+                    case "concurrency" -> options.concurrency = Integer.parseInt(value);
+                    case "products" -> options.products = Integer.parseInt(value);
+                    case "seeded-products" -> options.seededProducts = Long.parseLong(value);
+                    case "seed" -> options.seed = Long.parseLong(value);
+                    case "warmup" -> options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                    case "duration" -> options.duration = Duration.ofSeconds(Long.parseLong(value));
+                    case "request-timeout" -> options.requestTimeout = Duration.ofSeconds(Long.parseLong(value));
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+                }
+            }
+            return options;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.side.shop.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 부하 테스트 스위트 설정
+ * 기본값은 load-test.properties, --config=파일 로 다른 설정 파일을 겹쳐 읽고 --key=value 로 개별 값을 덮어쓴다.
+ */
+class LoadTestConfig {
+
+    static final List<String> SCENARIOS = List.of("search", "detail", "login", "reissue", "admin-write");
+
+    private final Properties properties = new Properties();
+
+    private LoadTestConfig() {}
+
+    static LoadTestConfig load(String[] args) throws IOException {
+        LoadTestConfig config = new LoadTestConfig();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/load-test.properties");
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            config.properties.load(reader);
+        }
+
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            if (pair[0].equals("config")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(pair[1]), StandardCharsets.UTF_8)) {
+                    config.properties.load(reader);
+                }
+            } else {
+                config.properties.setProperty(pair[0], pair[1]);
+            }
+        }
+        return config;
+    }
+
+    String get(String key) {
+        return properties.getProperty(key);
+    }
+
+    String require(String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("설정이 없습니다: " + key);
+        }
+        return value.trim();
+    }
+
+    int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    long getLong(String key) {
+        return Long.parseLong(require(key));
+    }
+
+    double getDouble(String key) {
+        return Double.parseDouble(require(key));
+    }
+
+    Duration getDuration(String key) {
+        return DurationStyle.detectAndParse(require(key));
+    }
+
+    int weight(String scenario) {
+        return getInt(scenario + ".weight");
+    }
+
+    Duration p99(String scenario) {
+        return getDuration(scenario + ".p99");
+    }
+
+    /**
+     * 시나리오별 목표 도착률 (전체 도착률을 비율대로 나눈 값)
+     */
+    double targetRate(String scenario) {
+        int total = SCENARIOS.stream().mapToInt(this::weight).sum();
+        return getDouble("rate") * weight(scenario) / total;
+    }
+}
@@ -0,0 +1,381 @@
+package com.side.shop.loadtest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.side.shop.ShopApplication;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import javax.sql.DataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 배포 전 처리량 회귀를 잡기 위한 HTTP 부하 테스트 스위트
+ *
+ * 1. 앱을 같은 JVM에서 띄우고 CatalogSeeder로 고정 데이터셋을 만든다 (--base-url 지정 시 생략).
+ * 2. 검색/상세/로그인/재발급/관리자 쓰기를 설정한 비율로 섞어 고정 도착률(open model)로 보낸다.
+ * 3. 시나리오별 지연을 HdrHistogram으로 기록하고 p99 SLO, 처리량, 오류율, 기준 결과 대비 변동을 검사한다.
+ *
+ * 하나라도 넘으면 종료 코드 1 (Gradle 태스크 실패). 외부 네트워크 없이 한 대의 Linux 장비에서 실행된다.
+ *
+ * <pre>
+ * ./gradlew loadTestSuite
+ * ./gradlew loadTestSuite -PloadTestArgs="--rate=400 --baseline=benchmarks/load/baseline.json"
+ * </pre>
+ */
+public class LoadTestSuite {
+
+    private static final ObjectMapper objectMapper =
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String[] SEARCH_NAMES = {"나이키", "러닝", "스니커즈", "부츠", "뉴발란스 로퍼", "온"};
+    private static final String[] COLORS = {"black", "white", "gray", "navy", "beige", "red"};
+    private static final String[] SORT_TYPES = {"LATEST", "PRICE_ASC", "PRICE_DESC", "NAME_ASC"};
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    // 재발급 시나리오: 세션(회원별 Refresh Token)을 하나씩 빌려 쓰고 새 토큰으로 돌려놓는다
+    private final ConcurrentLinkedQueue<String> refreshTokens = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private String adminAccessToken;
+
+    LoadTestSuite(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = config.getDuration("request-timeout");
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+
+        ConfigurableApplicationContext app = null;
+        String baseUrl = config.get("base-url");
+        boolean passed;
+        try {
+            if (baseUrl == null) {
+                app = boot(config);
+                baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            }
+            passed = new LoadTestSuite(config, baseUrl).run();
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * 앱 기동 후 같은 DataSource로 데이터셋 생성 (인메모리 H2도 그대로 사용 가능)
+     */
+    private static ConfigurableApplicationContext boot(LoadTestConfig config) throws Exception {
+        // application.yml의 spring.profiles.active(prod)를 덮어쓰도록 명령행 인자로 전달
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(ShopApplication.class)
+                .run("--spring.profiles.active=" + config.require("profiles"), "--server.port=0");
+
+        CatalogSeeder.Options options = new CatalogSeeder.Options();
+        options.products = config.getLong("seed.products");
+        options.members = config.getLong("seed.members");
+        options.seed = config.getLong("seed.value");
+        options.truncate = true;
+        try (Connection connection = app.getBean(DataSource.class).getConnection()) {
+            new CatalogSeeder(options).seed(connection);
+        }
+        return app;
+    }
+
+    boolean run() throws Exception {
+        // 1. 준비: 관리자 토큰, 재발급용 세션
+        adminAccessToken = login("admin@shoemoa.com", config.require("admin-password"));
+        for (int i = 1; i <= config.getInt("sessions"); i++) {
+            refreshTokens.add(refreshTokenOf(CatalogSeeder.memberEmail(i)));
+        }
+
+        // 2. 워밍업 (기록하지 않음) → 측정
+        Random random = new Random(config.getLong("seed.value"));
+        drive(config.getDuration("warmup"), random, newStats());
+        Map<String, ScenarioStats> stats = newStats();
+        Duration duration = config.getDuration("duration");
+        drive(duration, random, stats);
+
+        // 3. 결과 저장 및 검사
+        List<ScenarioStats.Result> results = new ArrayList<>();
+        for (ScenarioStats stat : stats.values()) {
+            results.add(stat.toResult(duration));
+        }
+        Path outDir = outputDirectory();
+        Report report =
+                new Report(Runtime.version().toString(), config.getDouble("rate"), duration.toSeconds(), results);
+        objectMapper.writeValue(outDir.resolve("report.json").toFile(), report);
+        for (Map.Entry<String, ScenarioStats> entry : stats.entrySet()) {
+            try (PrintStream out = new PrintStream(outDir.resolve(entry.getKey() + ".hgrm").toFile(), UTF_8)) {
+                entry.getValue().writePercentileDistribution(out);
+            }
+        }
+
+        String baseline = config.get("baseline");
+        Report baselineReport =
+                baseline == null ? null : objectMapper.readValue(Path.of(baseline).toFile(), Report.class);
+        List<String> violations = new SloChecker(config).check(report, baselineReport);
+
+        printSummary(results);
+        System.out.println("결과: " + outDir.toAbsolutePath());
+        violations.forEach(violation -> System.out.println("FAIL " + violation));
+        System.out.println(violations.isEmpty() ? "PASS" : "FAIL (" + violations.size() + ")");
+        return violations.isEmpty();
+    }
+
+    /**
+     * 고정 도착률 송신: 응답을 기다리지 않고 정해진 간격마다 요청을 보낸다
+     */
+    private void drive(Duration duration, Random random, Map<String, ScenarioStats> stats) throws Exception {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getDouble("rate"));
+        int maxInFlight = config.getInt("max-in-flight");
+        int[] cumulativeWeights = cumulativeWeights();
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long remaining;
+            while ((remaining = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+            }
+
+            String scenario = pick(cumulativeWeights, random);
+            ScenarioStats stat = stats.get(scenario);
+            stat.sent();
+            if (inFlight.get() >= maxInFlight) {
+                stat.rejected("overload");
+                continue;
+            }
+            send(scenario, random, stat, intendedStart);
+        }
+
+        // 남은 응답 대기
+        long drainDeadline = System.nanoTime() + requestTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void send(String scenario, Random random, ScenarioStats stat, long intendedStart) {
+        String refreshToken = null;
+        HttpRequest request;
+        switch (scenario) {
+            case "search" -> request = get(searchPath(random));
+            case "detail" -> request = get("/api/products/" + (1 + random.nextLong(config.getLong("seed.products"))));
+            case "login" -> request = post("/api/members/login", loginBody(loginMember(random)), null, null);
+            case "reissue" -> {
+                refreshToken = refreshTokens.poll();
+                if (refreshToken == null) {
+                    stat.rejected("no-session");
+                    return;
+                }
+                request = post("/api/members/reissue", "", null, refreshToken);
+            }
+            case "admin-write" -> request = post("/api/products", productBody(random), adminAccessToken, null);
+            default -> throw new IllegalArgumentException("지원하지 않는 시나리오입니다: " + scenario);
+        }
+
+        boolean reissue = refreshToken != null;
+        inFlight.incrementAndGet();
+        httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (error != null) {
+                        stat.failed(intendedStart, error.getClass().getSimpleName());
+                    } else if (response.statusCode() / 100 != 2) {
+                        stat.failed(intendedStart, String.valueOf(response.statusCode()));
+                    } else {
+                        stat.succeeded(intendedStart);
+                        // 재발급 성공 시 회전된 토큰으로 세션 반납 (실패한 세션은 버림)
+                        if (reissue) {
+                            refreshTokenCookie(response).ifPresent(refreshTokens::add);
+                        }
+                    }
+                });
+    }
+
+    private String searchPath(Random random) {
+        // ProductSearchCond 조합을 고르게 섞음 (조건 없음 / 이름 / 사이즈 / 색상 / 가격 범위 / 정렬 / 페이지)
+        StringBuilder query = new StringBuilder("/api/products?page=").append(random.nextInt(5));
+        if (random.nextInt(2) == 0) {
+            query.append("&name=").append(URLEncoder.encode(SEARCH_NAMES[random.nextInt(SEARCH_NAMES.length)], UTF_8));
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&productSize=").append(230 + random.nextInt(13) * 5);
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&color=").append(COLORS[random.nextInt(COLORS.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            int minPrice = (5 + random.nextInt(20)) * 10_000;
+            query.append("&minPrice=").append(minPrice).append("&maxPrice=").append(minPrice + 100_000);
+        }
+        return query.append("&sortType=").append(SORT_TYPES[random.nextInt(SORT_TYPES.length)]).toString();
+    }
+
+    private String loginMember(Random random) {
+        // 재발급 세션으로 쓰는 회원(1~sessions)은 제외 (로그인하면 해당 회원의 Refresh Token이 교체됨)
+        long sessions = config.getInt("sessions");
+        long members = config.getLong("seed.members");
+        return CatalogSeeder.memberEmail(sessions + 1 + random.nextLong(members - sessions));
+    }
+
+    private String productBody(Random random) {
+        int id = random.nextInt(1_000_000);
+        return """
+                {"name":"부하 테스트 상품 %d","brand":"LOADTEST","description":"관리자 쓰기 시나리오","color":"black",\
+                "price":%d,"options":[{"size":250,"stock":10},{"size":260,"stock":10}]}"""
+                .formatted(id, (5 + random.nextInt(50)) * 1_000);
+    }
+
+    private String login(String email, String password) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                post("/api/members/login", loginBody(email, password), null, null),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패: " + email + " " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private String refreshTokenOf(String email) throws Exception {
+        HttpResponse<Void> response = httpClient.send(
+                post("/api/members/login", loginBody(email), null, null), HttpResponse.BodyHandlers.discarding());
+        return refreshTokenCookie(response)
+                .orElseThrow(() -> new IllegalStateException("Refresh Token 쿠키가 없습니다: " + email));
+    }
+
+    private static Optional<String> refreshTokenCookie(HttpResponse<?> response) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("refreshToken="))
+                .map(cookie -> cookie.split(";", 2)[0].substring("refreshToken=".length()))
+                .filter(token -> !token.isEmpty())
+                .findFirst();
+    }
+
+    private String loginBody(String email) {
+        return loginBody(email, config.require("member-password"));
+    }
+
+    private static String loginBody(String email, String password) {
+        return "{\"email\":\"%s\",\"password\":\"%s\"}".formatted(email, password);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json, String accessToken, String refreshToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        if (refreshToken != null) {
+            builder.header("Cookie", "refreshToken=" + refreshToken);
+        }
+        return builder.build();
+    }
+
+    private Map<String, ScenarioStats> newStats() {
+        Map<String, ScenarioStats> stats = new LinkedHashMap<>();
+        LoadTestConfig.SCENARIOS.forEach(scenario -> stats.put(scenario, new ScenarioStats(scenario)));
+        return stats;
+    }
+
+    private int[] cumulativeWeights() {
+        int[] cumulative = new int[LoadTestConfig.SCENARIOS.size()];
+        int sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += config.weight(LoadTestConfig.SCENARIOS.get(i));
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static String pick(int[] cumulativeWeights, Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return LoadTestConfig.SCENARIOS.get(i);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Path outputDirectory() throws Exception {
+        String out = config.get("out");
+        Path dir = out != null
+                ? Path.of(out)
+                : Path.of("build", "load", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        return Files.createDirectories(dir);
+    }
+
+    private static void printSummary(List<ScenarioStats.Result> results) {
+        System.out.printf(
+                "%-12s %8s %8s %9s %9s %9s %9s %9s%n",
+                "scenario",
+                "sent",
+                "failed",
+                "rps",
+                "p50 ms",
+                "p90 ms",
+                "p99 ms",
+                "max ms");
+        for (ScenarioStats.Result result : results) {
+            System.out.printf(
+                    "%-12s %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.scenario(),
+                    result.sent(),
+                    result.failed(),
+                    result.throughput(),
+                    result.p50Millis(),
+                    result.p90Millis(),
+                    result.p99Millis(),
+                    result.maxMillis());
+        }
+    }
+
+    record Report(String javaVersion, double rate, long durationSeconds, List<ScenarioStats.Result> scenarios) {}
+}
@@ -0,0 +1,112 @@
+package com.side.shop.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오 하나의 측정 결과
+ *
+ * 지연 시간은 실제 전송 시각이 아니라 "보냈어야 할 시각"부터 잰다.
+ * 서버가 밀려 요청이 늦게 나간 시간까지 포함되므로 coordinated omission 없이 p99를 볼 수 있다.
+ */
+class ScenarioStats {
+
+    // 1µs ~ 5분, 유효 숫자 3자리
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    void succeeded(long intendedStartNanos) {
+        record(intendedStartNanos);
+        succeeded.increment();
+    }
+
+    /**
+     * @param reason HTTP 상태 코드, 예외 이름 등 (보고서에 건수로 남김)
+     */
+    void failed(long intendedStartNanos, String reason) {
+        record(intendedStartNanos);
+        rejected(reason);
+    }
+
+    /**
+     * 보내지 못한 요청 (응답 대기 초과, 세션 부족): 지연 없이 실패로만 집계
+     */
+    void rejected(String reason) {
+        failed.increment();
+        failures.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    private void record(long intendedStartNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        latencies.recordValue(Math.min(Math.max(micros, 1), MAX_LATENCY_MICROS));
+    }
+
+    Result toResult(Duration duration) {
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, Long> failureCounts = new TreeMap<>();
+        failures.forEach((reason, count) -> failureCounts.put(reason, count.sum()));
+
+        return new Result(
+                name,
+                sent.sum(),
+                succeeded.sum(),
+                failed.sum(),
+                succeeded.sum() / seconds,
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                failureCounts);
+    }
+
+    /**
+     * HdrHistogram 분위수 분포 (.hgrm, HdrHistogram Plotter로 시각화)
+     */
+    void writePercentileDistribution(PrintStream out) {
+        latencies.outputPercentileDistribution(out, 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    record Result(
+            String scenario,
+            long sent,
+            long succeeded,
+            long failed,
+            double throughput,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<String, Long> failures) {
+
+        double errorRatio() {
+            return sent == 0 ? 0 : (double) failed / sent;
+        }
+    }
+}
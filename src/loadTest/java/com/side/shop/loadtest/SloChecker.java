@@ -0,0 +1,76 @@
+package com.side.shop.loadtest;
+
+import com.side.shop.loadtest.LoadTestSuite.Report;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 결과 판정
+ * - 절대 기준: 시나리오별 p99 SLO, 목표 도착률 대비 처리량, 오류율
+ * - 상대 기준: 기준 결과(baseline)가 있으면 p99 증가율, 처리량 감소율
+ */
+class SloChecker {
+
+    private final LoadTestConfig config;
+
+    SloChecker(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @return 위반 내역 (비어 있으면 통과)
+     */
+    List<String> check(Report report, Report baseline) {
+        List<String> violations = new ArrayList<>();
+        Map<String, ScenarioStats.Result> baselineResults = baseline == null
+                ? Map.of()
+                : baseline.scenarios().stream()
+                        .collect(Collectors.toMap(ScenarioStats.Result::scenario, Function.identity()));
+
+        double minThroughputRatio = config.getDouble("min-throughput-ratio");
+        double maxErrorRatio = config.getDouble("max-error-ratio");
+        double p99Drift = config.getDouble("drift.p99");
+        double throughputDrift = config.getDouble("drift.throughput");
+
+        for (ScenarioStats.Result result : report.scenarios()) {
+            String scenario = result.scenario();
+
+            // 1. p99 SLO
+            double p99Slo = config.p99(scenario).toNanos() / 1e6;
+            if (result.p99Millis() > p99Slo) {
+                violations.add("%s p99 %.2fms > SLO %.2fms".formatted(scenario, result.p99Millis(), p99Slo));
+            }
+
+            // 2. 처리량 (목표 도착률만큼 성공 응답이 나왔는지)
+            double targetRate = config.targetRate(scenario);
+            if (result.throughput() < targetRate * minThroughputRatio) {
+                violations.add("%s 처리량 %.1f rps < 목표 %.1f rps x %.2f"
+                        .formatted(scenario, result.throughput(), targetRate, minThroughputRatio));
+            }
+
+            // 3. 오류율
+            if (result.errorRatio() > maxErrorRatio) {
+                violations.add("%s 오류율 %.2f%% > %.2f%% %s"
+                        .formatted(scenario, result.errorRatio() * 100, maxErrorRatio * 100, result.failures()));
+            }
+
+            // 4. 기준 결과 대비 변동
+            ScenarioStats.Result base = baselineResults.get(scenario);
+            if (base == null) {
+                continue;
+            }
+            if (result.p99Millis() > base.p99Millis() * (1 + p99Drift)) {
+                violations.add("%s p99 %.2fms: 기준 %.2fms 대비 %.0f%% 초과 증가"
+                        .formatted(scenario, result.p99Millis(), base.p99Millis(), p99Drift * 100));
+            }
+            if (result.throughput() < base.throughput() * (1 - throughputDrift)) {
+                violations.add("%s 처리량 %.1f rps: 기준 %.1f rps 대비 %.0f%% 초과 감소"
+                        .formatted(scenario, result.throughput(), base.throughput(), throughputDrift * 100));
+            }
+        }
+        return violations;
+    }
+}
@@ -4,5 +4,11 @@ import java.util.List;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface ImageUploader {
-    List<String> uploadProductImages(Long productId, List<MultipartFile> images);
+    List<UploadedImage> uploadProductImages(Long productId, List<MultipartFile> images);
+
+    // 클라이언트가 스토리지에 직접 업로드할 수 있는 Presigned PUT URL 발급
+    PresignedImageUpload presignProductImageUpload(Long productId, String fileName, String contentType, long size);
+
+    // 직접 업로드가 끝난 객체 키를 검증하고 이미지 정보 반환
+    List<UploadedImage> confirmProductImageUploads(Long productId, List<String> keys);
 }
@@ -0,0 +1,6 @@
+package com.side.shop.common.application;
+
+/**
+ * 메일 아웃박스에 새 메일이 저장됨 (커밋 후 즉시 발송 시도용)
+ */
+public record MailEnqueuedEvent(Long mailId) {}
@@ -0,0 +1,28 @@
+package com.side.shop.common.application;
+
+import com.side.shop.common.domain.MailOutbox;
+import com.side.shop.common.infrastructure.mail.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 메일 발송 예약
+     * 호출한 트랜잭션에 참여하므로 업무 데이터와 함께 커밋되거나 함께 롤백된다.
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String text) {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.create(to, subject, text));
+
+        // 커밋 후 폴링 주기를 기다리지 않고 바로 발송 시도
+        eventPublisher.publishEvent(new MailEnqueuedEvent(mail.getId()));
+    }
+}
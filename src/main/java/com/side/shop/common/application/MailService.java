@@ -1,5 +1,16 @@
 package com.side.shop.common.application;
 
+import java.util.List;
+import java.util.Map;
+
 public interface MailService {
     void sendEmail(String to, String subject, String text);
+
+    /**
+     * 여러 메일을 하나의 SMTP 연결로 발송
+     *
+     * @param mails 발송할 메일 목록
+     * @return 발송에 실패한 메일의 인덱스와 실패 사유 (모두 성공하면 빈 Map)
+     */
+    Map<Integer, String> sendEmails(List<OutgoingMail> mails);
 }
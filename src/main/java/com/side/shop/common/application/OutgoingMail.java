@@ -0,0 +1,10 @@
+package com.side.shop.common.application;
+
+/**
+ * 발송할 메일
+ *
+ * @param to      수신자
+ * @param subject 제목
+ * @param text    본문
+ */
+public record OutgoingMail(String to, String subject, String text) {}
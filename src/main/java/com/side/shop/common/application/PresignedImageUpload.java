@@ -0,0 +1,14 @@
+package com.side.shop.common.application;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presigned PUT 업로드 정보
+ *
+ * @param key       업로드 대상 객체 키 (완료 요청 시 그대로 전달)
+ * @param uploadUrl 서명된 업로드 URL
+ * @param headers   업로드 요청에 반드시 포함해야 하는 헤더 (서명에 포함됨)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedImageUpload(String key, String uploadUrl, Map<String, String> headers, Instant expiresAt) {}
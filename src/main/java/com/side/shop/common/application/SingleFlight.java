@@ -0,0 +1,105 @@
+package com.side.shop.common.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회 합치기 (single-flight)
+ *
+ * 같은 키로 실행 중인 조회가 있으면 새로 조회하지 않고 그 결과를 기다려 함께 받는다.
+ * 조회가 끝나면 키를 지우므로 결과를 보관하지 않는다 (캐시가 아님, 끝난 뒤 들어온 요청은 새로 조회).
+ * - 조회 실패(예외)도 기다리던 요청에 그대로 전달한다.
+ * - 기다리는 시간은 maxWait까지, 넘으면 느린 조회 하나에 요청이 모두 묶이지 않도록 직접 조회한다.
+ * - 결과 객체를 요청끼리 공유하므로 호출한 쪽에서 수정하지 않는다.
+ *
+ * 메트릭 (name 태그)
+ * - singleflight.requests{result="load"}: 직접 조회한 요청
+ * - singleflight.requests{result="collapsed"}: 실행 중인 조회에 합쳐진 요청
+ * - singleflight.requests{result="timeout"}: 합쳐졌다가 maxWait를 넘겨 직접 조회한 요청
+ * - singleflight.inflight: 실행 중인 조회 수
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loads;
+    private final Counter collapsed;
+    private final Counter timeouts;
+    private final long maxWaitNanos;
+
+    public SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.loads = Counter.builder("singleflight.requests")
+                .tag("name", name)
+                .tag("result", "load")
+                .register(meterRegistry);
+        this.collapsed = Counter.builder("singleflight.requests")
+                .tag("name", name)
+                .tag("result", "collapsed")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("singleflight.requests")
+                .tag("name", name)
+                .tag("result", "timeout")
+                .register(meterRegistry);
+        Gauge.builder("singleflight.inflight", inFlight, Map::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key    같은 결과를 돌려주는 요청끼리 같은 키 (equals/hashCode)
+     * @param loader 실제 조회 (실행 중인 조회가 없거나 기다리다 시간이 초과되면 호출 스레드에서 실행)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        // 1. 실행 중인 조회가 있으면 그 결과를 기다림
+        if (existing != null) {
+            collapsed.increment();
+            return await(existing, loader);
+        }
+
+        // 2. 직접 조회 후 기다리던 요청에 결과 전달
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight, Supplier<V> loader) {
+        try {
+            return flight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            // 기다리기를 그만두고 직접 조회 (인터럽트 상태는 유지)
+            Thread.currentThread().interrupt();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
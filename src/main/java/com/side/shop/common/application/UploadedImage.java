@@ -0,0 +1,11 @@
+package com.side.shop.common.application;
+
+/**
+ * 업로드가 끝난 이미지 정보
+ *
+ * @param url         CDN 이미지 URL
+ * @param width       원본 가로 픽셀 (해석할 수 없는 포맷이면 null)
+ * @param height      원본 세로 픽셀 (해석할 수 없는 포맷이면 null)
+ * @param placeholder 저화질 미리보기 data URI (해석할 수 없는 포맷이면 null)
+ */
+public record UploadedImage(String url, Integer width, Integer height, String placeholder) {}
@@ -0,0 +1,18 @@
+package com.side.shop.common.domain;
+
+/**
+ * Hibernate 2차 캐시 영역 이름
+ * 영역별 최대 개수와 TTL은 app.cache.second-level.regions 에서 같은 이름으로 설정한다.
+ */
+public final class CacheRegions {
+
+    public static final String PRODUCT = "product";
+    public static final String PRODUCT_OPTIONS = "product-options"; // Product.options 컬렉션 (옵션 id 목록)
+    public static final String PRODUCT_IMAGES = "product-images"; // Product.images 컬렉션 (이미지 id 목록)
+    public static final String PRODUCT_OPTION = "product-option";
+    public static final String PRODUCT_IMAGE = "product-image";
+    public static final String MEMBER = "member";
+    public static final String MEMBER_EMAIL = "member-email"; // 이메일(자연 키) → 회원 id
+
+    private CacheRegions() {}
+}
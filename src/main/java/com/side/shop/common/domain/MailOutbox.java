@@ -0,0 +1,93 @@
+package com.side.shop.common.domain;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 대기열 (Transactional Outbox)
+ * 업무 트랜잭션 안에서 함께 저장되므로, 커밋된 메일은 프로세스가 죽더라도 나중에 반드시 발송된다.
+ * 본문에는 인증 토큰 등이 들어 있으므로 발송이 끝나면 비우고, 끝난 행은 보관 기간 뒤 MailOutboxPurgeJob이 삭제한다.
+ */
+@Entity
+@Table(
+        name = "mail_outbox",
+        indexes = @Index(name = "idx_mail_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class MailOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING: 다음 발송 시도 시각, SENDING: 선점 만료 시각 (지나면 다른 노드가 다시 선점)
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private Instant sentAt;
+
+    public static MailOutbox create(String recipient, String subject, String body) {
+        MailOutbox mail = new MailOutbox();
+        mail.recipient = recipient;
+        mail.subject = subject;
+        mail.body = body;
+        mail.status = MailOutboxStatus.PENDING;
+        mail.attempts = 0;
+        mail.nextAttemptAt = Instant.now();
+        return mail;
+    }
+
+    // 발송 선점 (leaseUntil까지 다른 디스패처가 가져가지 않음)
+    public void claim(Instant leaseUntil) {
+        this.status = MailOutboxStatus.SENDING;
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    // 발송 완료: 본문(인증 링크 등)은 더 이상 필요 없으므로 비움
+    public void markSent(Instant sentAt) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+        this.body = "";
+    }
+
+    // 발송 실패: 최대 시도 횟수 전이면 retryAt에 다시 시도, 넘으면 FAILED
+    public void markFailed(String error, Instant retryAt, int maxAttempts) {
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+            return;
+        }
+        this.status = MailOutboxStatus.PENDING;
+        this.nextAttemptAt = retryAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.side.shop.common.domain;
+
+public enum MailOutboxStatus {
+    PENDING, // 발송 대기
+    SENDING, // 디스패처가 선점하여 발송 중
+    SENT, // 발송 완료
+    FAILED // 최대 재시도 초과
+}
@@ -4,9 +4,13 @@ import com.side.shop.member.exception.DuplicateEmailException;
 import com.side.shop.member.exception.InvalidCredentialsException;
 import com.side.shop.member.exception.InvalidVerificationTokenException;
 import com.side.shop.member.exception.MemberNotFoundException;
+import com.side.shop.member.exception.MissingAccessTokenException;
+import com.side.shop.product.exception.DuplicateProductImageException;
+import com.side.shop.security.password.PasswordHashingRejectedException;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -53,6 +57,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Access Token 누락 예외 처리 (로그아웃)
+     */
+    @ExceptionHandler(MissingAccessTokenException.class)
+    public ResponseEntity<ErrorResponse> handleMissingAccessTokenException(MissingAccessTokenException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("MISSING_TOKEN", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * 이미 등록된 상품 이미지 예외 처리 (업로드 완료 콜백 재전송)
+     */
+    @ExceptionHandler(DuplicateProductImageException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateProductImageException(DuplicateProductImageException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("DUPLICATE_IMAGE", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 인증 실패 예외 처리
      */
@@ -62,6 +84,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    /**
+     * 비밀번호 해싱 과부하 예외 처리 (대기열 초과 시 즉시 거절)
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingRejectedException(PasswordHashingRejectedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("SERVER_BUSY", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
     /**
      * 회원 없음 예외 처리
      */
@@ -80,6 +113,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 응답 필드 선택 오류 처리 (?fields= 에 없는 필드)
+     */
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidFieldSelectionException(InvalidFieldSelectionException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("INVALID_FIELDS", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * 잘못된 상태 예외 처리 (예: 이미 인증된 회원)
      */
@@ -0,0 +1,9 @@
+package com.side.shop.common.exception;
+
+import java.util.List;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+    public InvalidFieldSelectionException(String field, List<String> allowed) {
+        super("선택할 수 없는 필드입니다: " + field + " (가능한 필드: " + String.join(",", allowed) + ")");
+    }
+}
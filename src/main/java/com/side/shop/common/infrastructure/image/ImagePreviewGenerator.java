@@ -0,0 +1,97 @@
+package com.side.shop.common.infrastructure.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 시점에 이미지 크기와 저화질 미리보기(LQIP)를 계산
+ * 클라이언트는 썸네일이 도착하기 전에 레이아웃을 잡고 흐릿한 미리보기를 바로 그릴 수 있다.
+ */
+@Slf4j
+@Component
+public class ImagePreviewGenerator {
+
+    // 미리보기 긴 변 픽셀
+    static final int PREVIEW_SIZE = 16;
+
+    // ProductImage.placeholder 컬럼 길이
+    static final int MAX_PLACEHOLDER_LENGTH = 2048;
+
+    private static final String DATA_URI_PREFIX = "data:image/jpeg;base64,";
+
+    public ImagePreview generate(InputStream image) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(image)) {
+            if (in == null) {
+                return ImagePreview.EMPTY;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                // ImageIO가 해석하지 못하는 포맷 (예: webp) → 미리보기 없이 업로드
+                return ImagePreview.EMPTY;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 원본 전체를 디코딩하지 않도록 서브샘플링해서 읽기 (메모리, CPU 절약)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (PREVIEW_SIZE * 4));
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                return new ImagePreview(width, height, toPlaceholder(source));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("이미지 미리보기 생성 실패: {}", e.getMessage());
+            return ImagePreview.EMPTY;
+        }
+    }
+
+    private String toPlaceholder(BufferedImage source) throws IOException {
+        double scale = (double) PREVIEW_SIZE / Math.max(source.getWidth(), source.getHeight());
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG는 알파 채널이 없으므로 투명 영역은 흰색으로 채움
+        BufferedImage preview = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = preview.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(preview, "jpg", out)) {
+            return null;
+        }
+
+        String placeholder = DATA_URI_PREFIX + Base64.getEncoder().encodeToString(out.toByteArray());
+        return placeholder.length() <= MAX_PLACEHOLDER_LENGTH ? placeholder : null;
+    }
+
+    public record ImagePreview(Integer width, Integer height, String placeholder) {
+        public static final ImagePreview EMPTY = new ImagePreview(null, null, null);
+    }
+}
@@ -0,0 +1,60 @@
+package com.side.shop.common.infrastructure.jpa;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 SQL 실행 수 집계 (Security 필터 포함 요청 전체)
+ * - http.server.requests.queries: 엔드포인트(uri 패턴)별 쿼리 수 분포
+ * - 임계값 초과 시 경고 로그 (N+1 회귀 탐지)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long before = QueryCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCounter.current() - before);
+        }
+    }
+
+    private void record(HttpServletRequest request, long queries) {
+        // 패턴(/api/products/{productId})으로 집계해야 태그 수가 늘어나지 않음
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .baseUnit("queries")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(queries);
+
+        if (queries > properties.getWarnThreshold()) {
+            log.warn("요청당 쿼리 수 초과 (N+1 의심): {} {} → {}건", request.getMethod(), uri, queries);
+        }
+    }
+}
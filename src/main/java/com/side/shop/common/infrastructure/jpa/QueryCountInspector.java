@@ -0,0 +1,19 @@
+package com.side.shop.common.infrastructure.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL(JPQL, QueryDSL, 네이티브 쿼리, 지연 로딩)을 센다
+ * JDBC 배치는 실행 횟수가 아니라 준비된 문장 수로 집계되고, Hibernate를 거치지 않는 JdbcTemplate은 포함되지 않는다.
+ *
+ * Hibernate가 직접 생성하므로 application.yml의 hibernate.session_factory.statement_inspector로 등록한다
+ * (스프링 빈이 아니어서 @DataJpaTest 같은 슬라이스 테스트에서도 동일하게 동작).
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,16 @@
+package com.side.shop.common.infrastructure.jpa;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.sql.query-count")
+public class QueryCountProperties {
+
+    // 요청당 쿼리 수가 이 값을 넘으면 경고 로그 (N+1 의심)
+    private int warnThreshold = 20;
+}
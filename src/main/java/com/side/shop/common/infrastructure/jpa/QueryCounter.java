@@ -0,0 +1,26 @@
+package com.side.shop.common.infrastructure.jpa;
+
+/**
+ * 스레드별 SQL 실행 횟수
+ *
+ * 값은 계속 증가만 하므로, 구간의 쿼리 수는 시작과 끝의 차이로 구한다 (중첩 측정 가능).
+ * 요청은 한 스레드에서 처리되므로 요청 단위 집계는 QueryCountFilter가 담당하고,
+ * 테스트에서는 같은 방식으로 서비스/레포지토리 호출 구간의 쿼리 수를 검증한다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {}
+
+    static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 SQL 수
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
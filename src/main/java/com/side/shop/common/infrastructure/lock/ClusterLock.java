@@ -0,0 +1,67 @@
+package com.side.shop.common.infrastructure.lock;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행 (PostgreSQL 세션 advisory lock)
+ *
+ * 스케줄 작업이 모든 노드에서 동시에 돌지 않도록 잠금을 얻은 노드만 실행하고 나머지는 건너뛴다.
+ * 잠금은 작업 동안 커넥션 하나에 묶여 있으므로 작업 안의 트랜잭션은 다른 커넥션을 써도 되고,
+ * 노드가 죽으면 커넥션이 끊기면서 잠금도 풀린다.
+ * PostgreSQL이 아니면(local/test H2) 단일 노드로 보고 잠금 없이 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterLock {
+
+    private final DataSource dataSource;
+
+    /**
+     * @param name 잠금 이름 (작업마다 고정)
+     * @return 실행했으면 true, 다른 노드가 실행 중이어서 건너뛰었으면 false
+     */
+    public boolean runExclusively(String name, Runnable task) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isPostgres(connection)) {
+                task.run();
+                return true;
+            }
+
+            long key = name.hashCode();
+            if (!call(connection, "SELECT pg_try_advisory_lock(?)", key)) {
+                log.info("다른 노드에서 실행 중이어서 건너뜀: {}", name);
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                // 세션 잠금은 커넥션을 풀에 돌려줘도 남으므로 반드시 해제
+                call(connection, "SELECT pg_advisory_unlock(?)", key);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("노드 간 잠금 처리 실패: " + name, e);
+        }
+    }
+
+    private boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private boolean call(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
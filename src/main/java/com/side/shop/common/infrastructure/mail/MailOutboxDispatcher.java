@@ -0,0 +1,172 @@
+package com.side.shop.common.infrastructure.mail;
+
+import com.side.shop.common.application.MailEnqueuedEvent;
+import com.side.shop.common.application.MailService;
+import com.side.shop.common.application.OutgoingMail;
+import com.side.shop.common.domain.MailOutbox;
+import com.side.shop.common.domain.MailOutboxStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일 아웃박스 디스패처
+ *
+ * 1. 짧은 트랜잭션에서 발송 대상을 SKIP LOCKED로 선점하고 SENDING으로 표시 (선점 만료 시각 기록)
+ * 2. 트랜잭션 밖에서 한 배치를 하나의 SMTP 연결로 발송
+ * 3. 다시 짧은 트랜잭션에서 결과 반영 (실패 시 지수 백오프로 재시도 예약)
+ *
+ * 발송 도중 프로세스가 죽으면 선점이 만료된 뒤 다른 디스패처가 다시 발송한다 (최소 한 번 발송).
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final List<MailOutboxStatus> DISPATCHABLE =
+            List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailService mailService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 같은 노드에서 폴링과 커밋 직후 발송이 겹치지 않도록
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.lease:5m}")
+    private Duration lease;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${app.mail.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    public MailOutboxDispatcher(
+            MailOutboxRepository mailOutboxRepository,
+            MailService mailService,
+            PlatformTransactionManager transactionManager) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailService = mailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 메일 저장 트랜잭션 커밋 직후 발송 시도
+     */
+    @Async("mailExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMailEnqueuedEvent(MailEnqueuedEvent event) {
+        dispatchPending();
+    }
+
+    /**
+     * 대기 중인 메일을 배치 단위로 모두 발송 (주기적 폴링)
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:10s}")
+    public void dispatchPending() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("메일 아웃박스 발송 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 배치 선점 후 발송
+     *
+     * @return 선점한 메일 수
+     */
+    public int dispatchBatch() {
+        Instant now = Instant.now();
+
+        // 1. 발송 대상 선점
+        List<MailOutbox> claimed = transactionTemplate.execute(status -> {
+            List<MailOutbox> mails =
+                    mailOutboxRepository.findDispatchable(DISPATCHABLE, now, PageRequest.of(0, batchSize));
+            mails.forEach(mail -> mail.claim(now.plus(lease)));
+            return mails;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 하나의 SMTP 연결로 일괄 발송
+        List<OutgoingMail> outgoing = claimed.stream()
+                .map(mail -> new OutgoingMail(mail.getRecipient(), mail.getSubject(), mail.getBody()))
+                .toList();
+        Map<Integer, String> failures = send(outgoing);
+
+        // 3. 결과 반영
+        List<Long> ids = claimed.stream().map(MailOutbox::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, MailOutbox> mails = mailOutboxRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(MailOutbox::getId, Function.identity()));
+
+            for (int i = 0; i < ids.size(); i++) {
+                MailOutbox mail = mails.get(ids.get(i));
+                if (mail == null) {
+                    continue;
+                }
+                String error = failures.get(i);
+                if (error == null) {
+                    mail.markSent(Instant.now());
+                } else {
+                    mail.markFailed(error, Instant.now().plus(backoff(mail.getAttempts())), maxAttempts);
+                }
+            }
+        });
+
+        if (!failures.isEmpty()) {
+            log.warn("메일 {}건 중 {}건 발송 실패, 재시도 예약", claimed.size(), failures.size());
+        }
+        return claimed.size();
+    }
+
+    private Map<Integer, String> send(List<OutgoingMail> mails) {
+        try {
+            return mailService.sendEmails(mails);
+        } catch (RuntimeException e) {
+            // 연결 실패 등 배치 전체 실패
+            Map<Integer, String> failures = new HashMap<>();
+            for (int i = 0; i < mails.size(); i++) {
+                failures.put(i, e.getMessage());
+            }
+            return failures;
+        }
+    }
+
+    // 30초, 1분, 2분, 4분 ... 최대 1시간
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
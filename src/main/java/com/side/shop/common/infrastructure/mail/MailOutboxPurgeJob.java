@@ -0,0 +1,108 @@
+package com.side.shop.common.infrastructure.mail;
+
+import com.side.shop.common.infrastructure.lock.ClusterLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 발송이 끝난(SENT, FAILED) 아웃박스 메일 정리 배치
+ * 보관 기간(retention)이 지난 행을 삭제해 테이블이 계속 커지지 않게 한다.
+ * 배치마다 별도 트랜잭션으로 나누고 사이사이 쉬어서 디스패처의 선점 쿼리와 잠금 경합을 줄인다.
+ * 여러 노드 중 잠금(ClusterLock)을 얻은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxPurgeJob {
+
+    private static final String LOCK_NAME = "mail-outbox-purge";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ClusterLock clusterLock;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+
+    @Value("${app.mail.outbox.purge.retention:7d}")
+    private Duration retention;
+
+    @Value("${app.mail.outbox.purge.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.purge.pause:200ms}")
+    private Duration pause;
+
+    @Value("${app.mail.outbox.purge.max-batches:1000}")
+    private int maxBatches;
+
+    public MailOutboxPurgeJob(
+            MailOutboxRepository mailOutboxRepository,
+            ClusterLock clusterLock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.clusterLock = clusterLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgedCounter = Counter.builder("mail.outbox.purged")
+                .description("삭제된 발송 완료/실패 아웃박스 메일 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.purge.batch")
+                .description("아웃박스 메일 삭제 배치 1회 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.mail.outbox.purge.cron:0 0 5 * * *}")
+    public void purgeFinishedMails() {
+        clusterLock.runExclusively(LOCK_NAME, () -> purge(LocalDateTime.now().minus(retention)));
+    }
+
+    /**
+     * 기준 시각 이전에 발송이 끝난 메일 삭제
+     *
+     * @param before 기준 시각 (마지막 상태 변경 시각이 이보다 이전인 행 삭제)
+     * @return 삭제된 메일 수
+     */
+    public long purge(LocalDateTime before) {
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = batchTimer.record(() ->
+                    transactionTemplate.execute(status -> mailOutboxRepository.deleteFinishedBatch(before, batchSize)));
+            int count = deleted == null ? 0 : deleted;
+
+            purgedCounter.increment(count);
+            total += count;
+
+            // 마지막 배치
+            if (count < batchSize) {
+                break;
+            }
+
+            if (!sleep()) {
+                break;
+            }
+        }
+
+        log.info("발송이 끝난 아웃박스 메일 {}건 삭제 (기준 시각: {})", total, before);
+        return total;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
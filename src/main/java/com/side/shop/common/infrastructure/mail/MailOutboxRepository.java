@@ -0,0 +1,56 @@
+package com.side.shop.common.infrastructure.mail;
+
+import com.side.shop.common.domain.MailOutbox;
+import com.side.shop.common.domain.MailOutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송 대상 선점 조회 (SELECT ... FOR UPDATE SKIP LOCKED)
+     * 다른 디스패처가 잠근 행은 건너뛰므로 여러 노드가 동시에 실행해도 같은 메일을 가져가지 않는다.
+     * 선점 만료(SENDING 상태로 nextAttemptAt 경과)된 메일도 다시 가져온다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query(
+            """
+            select m from MailOutbox m
+            where m.status in :statuses and m.nextAttemptAt <= :now
+            order by m.id
+            """)
+    List<MailOutbox> findDispatchable(
+            @Param("statuses") Collection<MailOutboxStatus> statuses,
+            @Param("now") Instant now,
+            Pageable pageable);
+
+    // 발송이 끝난(SENT, FAILED) 메일 중 before 이전에 마지막으로 바뀐 것을 최대 batchSize 건 삭제
+    // 네이티브 DML은 영향받는 테이블을 지정하지 않으면 Hibernate가 2차 캐시 전체를 비우므로 mail_outbox로 한정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "mail_outbox"))
+    @Query(
+            value =
+                    """
+                    DELETE FROM mail_outbox
+                    WHERE id IN (
+                        SELECT id FROM mail_outbox
+                        WHERE status IN ('SENT', 'FAILED') AND last_modified_at < :before
+                        LIMIT :batchSize
+                    )
+                    """,
+            nativeQuery = true)
+    int deleteFinishedBatch(@Param("before") LocalDateTime before, @Param("batchSize") int batchSize);
+}
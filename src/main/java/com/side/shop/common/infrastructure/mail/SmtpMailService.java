@@ -1,9 +1,14 @@
 package com.side.shop.common.infrastructure.mail;
 
 import com.side.shop.common.application.MailService;
+import com.side.shop.common.application.OutgoingMail;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
@@ -19,11 +24,41 @@ public class SmtpMailService implements MailService {
     @Override
     public void sendEmail(String to, String subject, String text) {
         log.info("Sending email to: {}", to);
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        emailSender.send(message);
+        emailSender.send(toMessage(new OutgoingMail(to, subject, text)));
         log.info("Email sent successfully to: {}", to);
     }
+
+    @Override
+    public Map<Integer, String> sendEmails(List<OutgoingMail> mails) {
+        SimpleMailMessage[] messages = mails.stream().map(this::toMessage).toArray(SimpleMailMessage[]::new);
+
+        try {
+            // 배열로 보내면 JavaMailSenderImpl이 하나의 Transport 연결로 모두 발송
+            emailSender.send(messages);
+            log.info("Sent {} emails", messages.length);
+            return Map.of();
+        } catch (MailSendException e) {
+            // 메시지별 실패만 골라냄 (연결 실패 시에는 전체가 실패 목록에 포함됨)
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            Map<Integer, String> failures = new HashMap<>();
+            for (int i = 0; i < messages.length; i++) {
+                Exception failure = failedMessages.get(messages[i]);
+                if (failure != null) {
+                    failures.put(i, failure.getMessage());
+                }
+            }
+            if (failures.isEmpty()) {
+                throw e;
+            }
+            return failures;
+        }
+    }
+
+    private SimpleMailMessage toMessage(OutgoingMail mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(mail.to());
+        message.setSubject(mail.subject());
+        message.setText(mail.text());
+        return message;
+    }
 }
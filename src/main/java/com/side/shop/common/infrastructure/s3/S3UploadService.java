@@ -1,18 +1,40 @@
 package com.side.shop.common.infrastructure.s3;
 
 import com.side.shop.common.application.ImageUploader;
+import com.side.shop.common.application.PresignedImageUpload;
+import com.side.shop.common.application.UploadedImage;
+import com.side.shop.common.infrastructure.image.ImagePreviewGenerator;
+import com.side.shop.common.infrastructure.image.ImagePreviewGenerator.ImagePreview;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Profile({"prod", "local"})
 @Service
@@ -20,7 +42,21 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 @Slf4j
 public class S3UploadService implements ImageUploader {
 
+    private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024;
+
+    // 브라우저와 CloudFront 캐시 모두 장기 활용
+    // public: 모든 사용자 및 캐시 서버에서 캐시 가능
+    // max-age=31536000: TTL 1년 (초 단위)
+    // immutable: URL이 바뀌지 않는 한 재검증 불필요 → 불필요한 요청 방지
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ImagePreviewGenerator imagePreviewGenerator;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("imageExecutor")
+    private final AsyncTaskExecutor imageExecutor;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucket;
@@ -28,8 +64,11 @@ public class S3UploadService implements ImageUploader {
     @Value("${cloudfront.domain}")
     private String cloudFrontDomain;
 
+    @Value("${app.image.presign-expiration:10m}")
+    private Duration presignExpiration;
+
     @Override
-    public List<String> uploadProductImages(Long productId, List<MultipartFile> files) {
+    public List<UploadedImage> uploadProductImages(Long productId, List<MultipartFile> files) {
         if (productId == null) {
             throw new IllegalArgumentException("productId는 필수입니다.");
         }
@@ -37,36 +76,149 @@ public class S3UploadService implements ImageUploader {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
         }
 
-        return files.stream().map(file -> uploadProductImage(productId, file)).toList();
+        // 병렬 처리 전에 모두 검증 (하나라도 잘못되면 아무것도 올리지 않음)
+        files.forEach(this::validateImageFile);
+
+        // 파일별 업로드와 미리보기 계산을 이미지 실행기에서 병렬 처리 (대기열 초과 시 호출 스레드에서 실행)
+        return joinAll(files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadProductImage(productId, file), imageExecutor))
+                .toList());
+    }
+
+    @Override
+    public PresignedImageUpload presignProductImageUpload(
+            Long productId, String fileName, String contentType, long size) {
+        if (productId == null) {
+            throw new IllegalArgumentException("productId는 필수입니다.");
+        }
+        validateImage(contentType, size);
+
+        String s3Key = generateProductImageKey(productId, extractExtension(fileName));
+
+        // Content-Type, Cache-Control 은 서명에 포함되므로 클라이언트가 같은 값으로 업로드해야 함
+        PutObjectRequest objectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(contentType)
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(presignExpiration)
+                .putObjectRequest(objectRequest)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+
+        return new PresignedImageUpload(
+                s3Key,
+                presigned.url().toString(),
+                Map.of("Content-Type", contentType, "Cache-Control", CACHE_CONTROL),
+                presigned.expiration());
+    }
+
+    @Override
+    public List<UploadedImage> confirmProductImageUploads(Long productId, List<String> keys) {
+        if (productId == null) {
+            throw new IllegalArgumentException("productId는 필수입니다.");
+        }
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("등록할 이미지가 없습니다.");
+        }
+
+        // 병렬 처리 전에 모든 키 검증
+        keys.forEach(key -> validateImageKey(productId, key));
+
+        // 키별 확인과 미리보기 계산을 이미지 실행기에서 병렬 처리
+        return joinAll(keys.stream()
+                .map(key -> CompletableFuture.supplyAsync(() -> confirmProductImageUpload(key), imageExecutor))
+                .toList());
+    }
+
+    private List<UploadedImage> joinAll(List<CompletableFuture<UploadedImage>> futures) {
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private String uploadProductImage(Long productId, MultipartFile file) {
-        validateImageFile(file);
+    private UploadedImage uploadProductImage(Long productId, MultipartFile file) {
+        // 파일 1개당 업로드 시간 (미리보기 계산 포함)
+        return Timer.builder("image.upload")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(() -> putProductImage(productId, file));
+    }
 
+    private UploadedImage putProductImage(Long productId, MultipartFile file) {
         String s3Key = generateProductImageKey(productId, extractExtension(file.getOriginalFilename()));
 
         try {
+            // 업로드와 미리보기 계산에 같은 바이트를 사용 (스트림을 두 번 읽지 않음)
+            byte[] bytes = file.getBytes();
+            ImagePreview preview = imagePreviewGenerator.generate(new ByteArrayInputStream(bytes));
+
             PutObjectRequest request = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(s3Key)
-                    // 브라우저와 CloudFront 캐시 모두 장기 활용
-                    // public: 모든 사용자 및 캐시 서버에서 캐시 가능
-                    // max-age=31536000: TTL 1년 (초 단위)
-                    // immutable: URL이 바뀌지 않는 한 재검증 불필요 → 불필요한 요청 방지
-                    .cacheControl("public, max-age=31536000, immutable")
+                    .cacheControl(CACHE_CONTROL)
                     // 파일 타입 지정: 브라우저가 이미지로 올바르게 처리
                     .contentType(file.getContentType())
                     .build();
 
-            s3Client.putObject(request, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            s3Client.putObject(request, RequestBody.fromBytes(bytes));
 
-            return generateCloudFrontUrl(s3Key);
+            return toUploadedImage(s3Key, preview);
 
         } catch (IOException e) {
             throw new RuntimeException("파일 업로드 실패", e);
         }
     }
 
+    private void validateImageKey(Long productId, String s3Key) {
+        // 다른 상품 경로나 임의 경로의 객체를 등록하지 못하도록 키 검증
+        String prefix = "products/%d/images/".formatted(productId);
+        if (s3Key == null || !s3Key.startsWith(prefix) || s3Key.contains("..")) {
+            throw new IllegalArgumentException("유효하지 않은 이미지 키입니다: " + s3Key);
+        }
+    }
+
+    private UploadedImage confirmProductImageUpload(String s3Key) {
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(
+                    HeadObjectRequest.builder().bucket(bucket).key(s3Key).build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("업로드되지 않은 이미지입니다: " + s3Key);
+        }
+
+        // Presigned URL은 크기를 강제하지 못하므로 업로드 이후 다시 검증
+        validateImage(head.contentType(), head.contentLength());
+
+        // 직접 업로드된 이미지는 서버가 바이트를 본 적이 없으므로 한 번 내려받아 미리보기 계산
+        // 검증한 객체(ETag)의 검증한 크기까지만 범위 요청 (사이에 더 큰 객체로 바뀌어도 10MB 넘게 읽지 않음)
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .ifMatch(head.eTag())
+                .range("bytes=0-%d".formatted(head.contentLength() - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(request)) {
+            return toUploadedImage(s3Key, imagePreviewGenerator.generate(object));
+        } catch (IOException e) {
+            throw new RuntimeException("이미지 조회 실패", e);
+        }
+    }
+
+    private UploadedImage toUploadedImage(String s3Key, ImagePreview preview) {
+        return new UploadedImage(
+                generateCloudFrontUrl(s3Key), preview.width(), preview.height(), preview.placeholder());
+    }
+
     private String generateProductImageKey(Long productId, String extension) {
         return "products/%d/images/%s%s".formatted(productId, UUID.randomUUID(), extension);
     }
@@ -79,10 +231,17 @@ public class S3UploadService implements ImageUploader {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
-        if (file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+        validateImage(file.getContentType(), file.getSize());
+    }
+
+    private void validateImage(String contentType, long size) {
+        if (contentType == null || !contentType.startsWith("image/")) {
             throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다.");
         }
-        if (file.getSize() > 10 * 1024 * 1024) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+        if (size > MAX_IMAGE_SIZE) {
             throw new IllegalArgumentException("10MB 초과");
         }
     }
@@ -91,6 +250,8 @@ public class S3UploadService implements ImageUploader {
         if (filename == null || !filename.contains(".")) {
             return ".jpg";
         }
-        return filename.substring(filename.lastIndexOf("."));
+        String extension = filename.substring(filename.lastIndexOf("."));
+        // 클라이언트가 보낸 파일명이 키에 들어가므로 확장자 형태만 허용
+        return extension.matches("\\.[A-Za-z0-9]{1,5}") ? extension : ".jpg";
     }
 }
@@ -0,0 +1,100 @@
+package com.side.shop.common.presentation.dto;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.side.shop.common.exception.InvalidFieldSelectionException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.StringUtils;
+
+/**
+ * 응답 필드 선택 (?fields=id,name,price)
+ *
+ * 조회 쿼리는 선택한 필드에 필요한 컬럼/조인만 가져오고, 응답은 선택한 필드만 직렬화한다.
+ * 파라미터가 없거나 비어 있으면 전체 필드.
+ */
+public final class FieldSelection {
+
+    private final Set<String> fields;
+    private final boolean all;
+
+    private FieldSelection(Set<String> fields, boolean all) {
+        this.fields = fields;
+        this.all = all;
+    }
+
+    /**
+     * @param fields  쉼표로 구분한 필드명 (응답 JSON 속성명)
+     * @param allowed 선택할 수 있는 필드
+     * @throws InvalidFieldSelectionException 허용하지 않는 필드가 있을 때
+     */
+    public static FieldSelection parse(String fields, List<String> allowed) {
+        if (!StringUtils.hasText(fields)) {
+            return all(allowed);
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new InvalidFieldSelectionException(name, allowed);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty() || selected.size() == allowed.size()) {
+            return all(allowed);
+        }
+        return new FieldSelection(Set.copyOf(selected), false);
+    }
+
+    public static FieldSelection all(List<String> allowed) {
+        return new FieldSelection(Set.copyOf(allowed), true);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean includesAny(List<String> candidates) {
+        return candidates.stream().anyMatch(fields::contains);
+    }
+
+    public boolean isAll() {
+        return all;
+    }
+
+    public Set<String> fields() {
+        return fields;
+    }
+
+    // 같은 필드 선택끼리 같은 요청으로 취급 (동시 요청 합치기 키)
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof FieldSelection other && all == other.all && fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fields, all);
+    }
+
+    /**
+     * 선택한 필드만 직렬화하도록 응답 본문을 감싼다.
+     *
+     * @param filterId 응답 DTO의 @JsonFilter 이름
+     */
+    public MappingJacksonValue toJson(Object body, String filterId) {
+        SimpleBeanPropertyFilter filter =
+                all ? SimpleBeanPropertyFilter.serializeAll() : SimpleBeanPropertyFilter.filterOutAllExcept(fields);
+
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(new SimpleFilterProvider().addFilter(filterId, filter));
+        return value;
+    }
+}
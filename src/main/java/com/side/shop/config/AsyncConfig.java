@@ -0,0 +1,104 @@
+package com.side.shop.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 종류별 @Async 실행기
+ *
+ * 작업마다 스레드 수와 대기열 길이를 제한하여 한 작업이 몰려도 다른 작업에 영향을 주지 않도록 한다.
+ * 가상 스레드 모드에서도 같은 제한과 거절 정책을 쓰므로 제출한 스레드(요청, 커밋 후 리스너)는 기다리지 않는다.
+ * - mailExecutor: 메일 발송 (대기열 초과 시 버림, 아웃박스 폴링이 다시 발송)
+ * - imageExecutor: 이미지 업로드/미리보기 (대기열 초과 시 호출 스레드에서 실행)
+ * - cacheRefreshExecutor: 캐시 갱신 (대기열 초과 시 버림, 다음 주기에 갱신)
+ * - taskExecutor: 이름을 지정하지 않은 @Async (대기열 초과 시 예외)
+ *
+ * 스레드 풀 메트릭(executor.active, executor.queued 등)은 Actuator가 ThreadPoolTaskExecutor 빈마다 자동 등록하고,
+ * 대기/실행 시간은 TimedTaskDecorator가 기록한다.
+ * 대기열 길이는 두 모드 모두 async.task.queued 게이지(큐에 쌓인 작업 수)로 확인한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final AsyncProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public AsyncTaskExecutor mailExecutor() {
+        return ioExecutor("mail", properties.getMail(), new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean
+    public AsyncTaskExecutor imageExecutor() {
+        return ioExecutor("image", properties.getImage(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean
+    public AsyncTaskExecutor cacheRefreshExecutor() {
+        return ioExecutor("cache-refresh", properties.getCacheRefresh(), new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return platformExecutor("task", properties.getGeneral(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("비동기 작업 실패: {}", method.getName(), ex);
+    }
+
+    /**
+     * I/O 위주 작업용: 가상 스레드 모드면 가상 스레드로 실행하는 같은 크기의 풀, 아니면 플랫폼 스레드 풀
+     */
+    private AsyncTaskExecutor ioExecutor(String name, AsyncProperties.Pool pool, RejectedExecutionHandler rejection) {
+        ThreadPoolTaskExecutor executor = platformExecutor(name, pool, rejection);
+        if (properties.isVirtualThreads()) {
+            // 동시 실행 max-size, 초과분은 queue-capacity까지 대기, 그 이상은 rejection
+            // (동시 실행 제한만 있는 SimpleAsyncTaskExecutor는 초과 시 제출 스레드를 막아 거절 정책이 사라짐)
+            // 가상 스레드는 생성 비용이 작으므로 max-size까지 바로 만들고 유휴 시 종료
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(name + "-vt-").getVirtualThreadFactory());
+            executor.setCorePoolSize(pool.getMaxSize());
+            executor.setAllowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor platformExecutor(
+            String name, AsyncProperties.Pool pool, RejectedExecutionHandler rejection) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setRejectedExecutionHandler(rejection);
+        executor.setTaskDecorator(new TimedTaskDecorator(meterRegistry, name));
+        // 종료 시 진행 중인 작업 마무리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        Gauge.builder("async.task.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("executor", name)
+                .register(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.side.shop.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncProperties {
+
+    // true면 I/O 위주 작업(메일, 이미지, 캐시 갱신)을 작업당 가상 스레드로 실행 (Java 21 이상)
+    private boolean virtualThreads = false;
+
+    private Pool mail = new Pool(2, 4, 100);
+    private Pool image = new Pool(4, 8, 50);
+    private Pool cacheRefresh = new Pool(1, 2, 10);
+
+    // 이름을 지정하지 않은 @Async 작업
+    private Pool general = new Pool(2, 8, 100);
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int coreSize;
+        // 가상 스레드 모드에서는 동시 실행 수 제한으로 사용
+        private int maxSize;
+        private int queueCapacity;
+    }
+}
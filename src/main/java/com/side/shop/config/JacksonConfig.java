@@ -0,0 +1,19 @@
+package com.side.shop.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * @JsonFilter가 붙은 응답 DTO를 필터 지정 없이 직렬화하면 전체 필드를 쓴다.
+     * 필드 선택(FieldSelection.toJson)으로 필터를 지정한 응답만 일부 필드를 쓴다.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer defaultFilterProvider() {
+        return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+}
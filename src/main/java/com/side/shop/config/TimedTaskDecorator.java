@@ -0,0 +1,53 @@
+package com.side.shop.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 작업 메트릭 (executor 태그)
+ * - async.task.wait: 제출부터 실행 시작까지 대기 시간 (큐 대기)
+ * - async.task.duration: 실행 시간
+ * - async.task.active: 실행 중인 작업 수 (가상 스레드 모드에서도 동일하게 측정)
+ *
+ * 대기 작업 수(async.task.queued)는 거절(Discard)된 작업이 섞이지 않도록 AsyncConfig가 큐 크기로 등록한다.
+ */
+public class TimedTaskDecorator implements TaskDecorator {
+
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public TimedTaskDecorator(MeterRegistry meterRegistry, String executorName) {
+        this.waitTimer = Timer.builder("async.task.wait")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("async.task.duration")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        Gauge.builder("async.task.active", active, AtomicInteger::get)
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        // decorate는 작업 제출 시점에 호출됨
+        long submittedAt = System.nanoTime();
+
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            active.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                active.decrementAndGet();
+                durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
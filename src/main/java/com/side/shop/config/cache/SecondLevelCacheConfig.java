@@ -0,0 +1,56 @@
+package com.side.shop.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine)
+ *
+ * 1. 설정된 영역마다 최대 개수 / TTL이 있는 Caffeine 캐시 생성
+ * 2. Hibernate가 이 CacheManager를 사용하도록 지정 (설정에 없는 영역은 기동 실패)
+ * 3. 통계 수집 → 영역별 적중/미스가 hibernate.second.level.cache.* 메트릭으로 노출
+ *
+ * 이 설정이 없는 컨텍스트(@DataJpaTest 등)는 application.yml의 use_second_level_cache: false 로 캐시 없이 동작한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.cache.second-level", name = "enabled", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        // 컨텍스트마다 별도 CacheManager (기본 CachingProvider는 JVM 전역이라 테스트 컨텍스트끼리 캐시가 섞임)
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        properties.getRegions().forEach((name, region) -> cacheManager.createCache(name, configuration(region)));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            // 통계는 메트릭으로만 (세션마다 남는 통계 로그는 끔)
+            hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+        // Hibernate 캐시 항목은 분해된 상태 값이라 복사(직렬화) 없이 참조로 저장
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
@@ -0,0 +1,29 @@
+package com.side.shop.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.cache.second-level")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    // 영역 이름(CacheRegions) → 최대 개수, TTL. 엔티티에 지정한 영역이 여기 없으면 기동 실패
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Setter
+    @Getter
+    public static class Region {
+        private long maximumSize = 10_000;
+        // 쓰기 후 만료 (애플리케이션 밖에서 DB를 직접 수정한 경우 최대 이 시간 동안 이전 값이 보일 수 있음)
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
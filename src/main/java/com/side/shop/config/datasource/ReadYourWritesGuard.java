@@ -0,0 +1,69 @@
+package com.side.shop.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.side.shop.security.auth.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 자기 쓰기 읽기 보장 (read-your-writes)
+ *
+ * 복제 지연 때문에 방금 쓴 데이터가 복제본에 아직 없을 수 있으므로,
+ * 회원이 쓰기 트랜잭션을 커밋하면 일정 시간 동안 그 회원의 읽기 전용 트랜잭션도 primary로 보낸다.
+ * 기록은 인스턴스 메모리에 있으므로 여러 인스턴스 환경에서는 세션 고정(sticky) 라우팅을 전제로 한다.
+ * 회원 요청이 아닌 커밋 후속 작업(캐시 갱신 등)은 runOnPrimary로 실행 중인 스레드의 읽기를 primary로 보낸다.
+ */
+public class ReadYourWritesGuard {
+
+    private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(ReplicaProperties properties) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(Long memberId) {
+        if (memberId != null) {
+            recentWriters.put(memberId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * runOnPrimary 안이거나 현재 요청의 회원이 최근에 쓰기를 했으면 true
+     */
+    public boolean mustReadPrimary() {
+        if (PRIMARY_HINT.get() != null) {
+            return true;
+        }
+        Long memberId = currentMemberId();
+        return memberId != null && recentWriters.getIfPresent(memberId) != null;
+    }
+
+    /**
+     * 작업 중의 읽기 전용 트랜잭션을 primary에서 실행 (복제본 라우팅이 꺼져 있으면 그대로 실행)
+     */
+    public static void runOnPrimary(Runnable task) {
+        Boolean previous = PRIMARY_HINT.get();
+        PRIMARY_HINT.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                PRIMARY_HINT.remove();
+            }
+        }
+    }
+
+    public static Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,207 @@
+package com.side.shop.config.datasource;
+
+import com.side.shop.config.datasource.ReplicaProperties.Selection;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource (LazyConnectionDataSourceProxy의 readOnlyDataSource)
+ *
+ * 1. 회원이 최근에 쓰기를 했거나 ReadYourWritesGuard.runOnPrimary 안이면 primary (read-your-writes)
+ * 2. 정상 복제본 중 하나를 선택 (라운드 로빈 / 최소 연결)
+ * 3. 정상 복제본이 없거나 연결에 실패하면 primary
+ *
+ * 복제본 상태는 주기적으로 확인하며(연결 + 선택적으로 복제 지연), 연결 실패 시 즉시 제외 후 다음 확인에서 복귀한다.
+ * 복제본에서 읽는 세션은 2차 캐시를 채우지 않는다 (ReplicaReadCacheMode).
+ * 상태 확인은 복제본마다 연결 대기(최대 2초)가 걸릴 수 있어 공용 스케줄러가 아닌 전용 스레드에서 실행한다.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private final DataSource primary;
+    private final List<Node> nodes = new ArrayList<>();
+    private final ReplicaProperties properties;
+    private final ReadYourWritesGuard guard;
+    private final MeterRegistry meterRegistry;
+    private final ReplicaReadCacheMode cacheMode;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ThreadPoolTaskScheduler healthCheckScheduler = new ThreadPoolTaskScheduler();
+
+    public ReplicaDataSource(
+            DataSource primary,
+            ReplicaProperties properties,
+            ReadYourWritesGuard guard,
+            MeterRegistry meterRegistry,
+            ReplicaReadCacheMode cacheMode) {
+        this.primary = primary;
+        this.properties = properties;
+        this.guard = guard;
+        this.meterRegistry = meterRegistry;
+        this.cacheMode = cacheMode;
+
+        List<ReplicaProperties.Replica> replicas = properties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            nodes.add(new Node("replica-" + (i + 1), createPool("replica-" + (i + 1), replicas.get(i))));
+        }
+        healthCheckScheduler.setPoolSize(1);
+        healthCheckScheduler.setThreadNamePrefix("replica-health-");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        healthCheckScheduler.initialize();
+        healthCheckScheduler.scheduleWithFixedDelay(this::checkHealth, properties.getHealthCheckInterval());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 복제본 상태 확인: 연결 가능 여부, lag-query가 있으면 복제 지연(초)
+     */
+    void checkHealth() {
+        for (Node node : nodes) {
+            boolean healthy = isHealthy(node);
+            if (healthy != node.healthy) {
+                log.warn("복제본 상태 변경: {} → {}", node.name, healthy ? "UP" : "DOWN");
+            }
+            node.healthy = healthy;
+        }
+    }
+
+    List<String> healthyReplicas() {
+        return nodes.stream().filter(node -> node.healthy).map(node -> node.name).toList();
+    }
+
+    @Override
+    public void destroy() {
+        healthCheckScheduler.shutdown();
+        nodes.forEach(node -> node.dataSource.close());
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        // 1. 자기 쓰기 직후 읽기
+        if (guard.mustReadPrimary()) {
+            return primaryConnection("read-your-writes", opener);
+        }
+
+        // 2. 복제본 선택
+        Node node = select();
+        if (node == null) {
+            return primaryConnection("no-healthy-replica", opener);
+        }
+        try {
+            Connection connection = opener.open(node.dataSource);
+            routed(node.name, "replica");
+            cacheMode.replicaConnected();
+            return connection;
+        } catch (SQLException e) {
+            // 3. 연결 실패: 다음 상태 확인 전까지 제외하고 primary로 대체
+            log.warn("복제본 연결 실패, primary로 대체: {}", node.name, e);
+            node.healthy = false;
+            return primaryConnection("replica-error", opener);
+        }
+    }
+
+    private Node select() {
+        List<Node> healthy = nodes.stream().filter(node -> node.healthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (properties.getSelection() == Selection.LEAST_CONNECTIONS) {
+            return healthy.stream()
+                    .min(Comparator.comparingInt(Node::activeConnections))
+                    .orElseThrow();
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private boolean isHealthy(Node node) {
+        try (Connection connection = node.dataSource.getConnection()) {
+            if (!connection.isValid(2)) {
+                return false;
+            }
+            if (properties.getLagQuery() == null) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                return lagSeconds <= properties.getMaxLag().toMillis() / 1000.0;
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection primaryConnection(String reason, ConnectionOpener opener) throws SQLException {
+        routed("primary", reason);
+        return opener.open(primary);
+    }
+
+    private void routed(String target, String reason) {
+        meterRegistry
+                .counter("datasource.read.routed", "target", target, "reason", reason)
+                .increment();
+    }
+
+    private HikariDataSource createPool(String name, ReplicaProperties.Replica replica) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername());
+        config.setPassword(replica.getPassword());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        config.setReadOnly(true);
+        // 복제본이 내려가 있어도 앱은 기동 (상태 확인에서 제외됨), 연결 대기는 짧게 하고 primary로 대체
+        config.setInitializationFailTimeout(-1);
+        config.setConnectionTimeout(2_000);
+        config.setMetricRegistry(meterRegistry);
+        return new HikariDataSource(config);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Node {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Node(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+}
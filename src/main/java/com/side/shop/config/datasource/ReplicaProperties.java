@@ -0,0 +1,44 @@
+package com.side.shop.config.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+public class ReplicaProperties {
+
+    // 비어 있으면 라우팅 없이 spring.datasource 하나만 사용
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // 지연(lag) 확인 쿼리 결과(초)가 이 값을 넘는 복제본은 제외 (lag-query가 없으면 연결만 확인)
+    private String lagQuery;
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // 회원이 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안 그 회원의 읽기는 primary에서 수행
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    public enum Selection {
+        ROUND_ROBIN, // 정상 복제본을 순서대로
+        LEAST_CONNECTIONS, // 사용 중인 커넥션이 가장 적은 복제본
+    }
+
+    @Setter
+    @Getter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
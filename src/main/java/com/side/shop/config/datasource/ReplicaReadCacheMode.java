@@ -0,0 +1,50 @@
+package com.side.shop.config.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 복제본 커넥션을 받은 트랜잭션의 세션은 2차 캐시를 조회만 하고 채우지 않는다 (CacheMode.GET)
+ *
+ * 쓰기는 컬렉션 캐시(Product.options 등)를 무효화만 하므로, 다음 조회가 복제 지연 중인 복제본을 읽으면
+ * 이전 값이 캐시에 들어가 복제 지연이 끝난 뒤에도 TTL 동안 모든 조회에 보인다.
+ * 캐시는 primary에서 읽은 세션과 쓰기 커밋으로만 채운다. 트랜잭션이 끝나면 세션의 원래 모드로 되돌린다.
+ */
+class ReplicaReadCacheMode {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    ReplicaReadCacheMode(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    void replicaConnected() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (!(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+            return;
+        }
+        session.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.setCacheMode(previous);
+                }
+            }
+        });
+    }
+}
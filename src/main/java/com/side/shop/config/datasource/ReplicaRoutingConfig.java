@@ -0,0 +1,65 @@
+package com.side.shop.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 전용 트랜잭션 → 복제본, 그 외 → primary
+ *
+ * app.datasource.replicas 가 설정된 경우에만 활성화된다 (없으면 Boot 기본 DataSource 하나).
+ * LazyConnectionDataSourceProxy는 실제 커넥션을 첫 SQL 실행 시점에 가져오므로,
+ * @Transactional(readOnly = true)가 커넥션에 readOnly를 설정한 뒤에 복제본/primary가 결정된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource", name = "replicas[0].url")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(ReplicaProperties properties) {
+        return new ReadYourWritesGuard(properties);
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaProperties properties,
+            ReadYourWritesGuard readYourWritesGuard,
+            MeterRegistry meterRegistry,
+            ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        // EntityManagerFactory가 이 DataSource에 의존하므로 복제본 커넥션을 줄 때 지연 조회
+        return new ReplicaDataSource(
+                primaryDataSource,
+                properties,
+                readYourWritesGuard,
+                meterRegistry,
+                new ReplicaReadCacheMode(entityManagerFactory));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSource replicaDataSource,
+            ReadYourWritesGuard readYourWritesGuard) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primaryDataSource, readYourWritesGuard));
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
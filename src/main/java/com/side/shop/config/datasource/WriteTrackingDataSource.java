@@ -0,0 +1,52 @@
+package com.side.shop.config.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * primary 커넥션을 실제로 사용한 쓰기 트랜잭션이 커밋되면 해당 회원을 ReadYourWritesGuard에 기록
+ * LazyConnectionDataSourceProxy 뒤에 있으므로 SQL을 실행하지 않은 트랜잭션은 기록되지 않는다.
+ */
+class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesGuard guard;
+
+    WriteTrackingDataSource(DataSource primary, ReadYourWritesGuard guard) {
+        super(primary);
+        this.guard = guard;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        trackWrite();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        trackWrite();
+        return super.getConnection(username, password);
+    }
+
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+
+        Long memberId = ReadYourWritesGuard.currentMemberId();
+        if (memberId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                guard.recordWrite(memberId);
+            }
+        });
+    }
+}
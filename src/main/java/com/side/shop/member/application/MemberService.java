@@ -12,17 +12,24 @@ import com.side.shop.member.presentation.dto.LoginResponseDto;
 import com.side.shop.member.presentation.dto.SignupRequestDto;
 import com.side.shop.member.presentation.dto.TokenResponseDto;
 import com.side.shop.security.auth.RefreshToken;
-import com.side.shop.security.auth.RefreshTokenRepository;
+import com.side.shop.security.auth.RefreshTokenStore;
+import com.side.shop.security.auth.TokenRevocationService;
 import com.side.shop.security.jwt.JwtProperties;
 import com.side.shop.security.jwt.JwtTokenProvider;
+import com.side.shop.security.jwt.TokenClaims;
+import com.side.shop.security.password.PasswordHashingExecutor;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional(readOnly = true)
@@ -32,30 +39,41 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtProperties jwtProperties;
     private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입
+     * BCrypt 해싱은 로그인과 같이 트랜잭션 밖에서 해싱 전용 스레드 풀로 수행하여 해싱 중에 DB 커넥션을 점유하지 않는다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void signup(SignupRequestDto request) {
-        // 1. 중복 이메일 검증
+        // 1. 중복 이메일 검증 (해싱 전에 걸러냄)
         if (memberRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateEmailException(request.getEmail());
         }
 
-        // 2. Member 엔티티 생성
-        Member member = Member.createUser(request.getEmail(), request.getPassword(), passwordEncoder);
+        // 2. 비밀번호 해싱 (해싱 스레드 풀, 과부하 시 즉시 거절)
+        String encodedPassword = passwordHashingExecutor.call(() -> passwordEncoder.encode(request.getPassword()));
+
+        // 3. Member 저장 및 회원가입 이벤트 발행 (짧은 쓰기 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> {
+            // 해싱하는 동안 같은 이메일로 가입했을 수 있으므로 다시 확인
+            if (memberRepository.existsByEmail(request.getEmail())) {
+                throw new DuplicateEmailException(request.getEmail());
+            }
 
-        // 3. 인증 토큰 생성 및 저장
-        String token = UUID.randomUUID().toString();
-        member.generateVerificationToken(token);
-        memberRepository.save(member);
+            Member member = Member.createUserWithEncodedPassword(request.getEmail(), encodedPassword);
+            String token = UUID.randomUUID().toString();
+            member.generateVerificationToken(token);
+            memberRepository.save(member);
 
-        // 4. 회원가입 이벤트 발행
-        eventPublisher.publishEvent(new MemberSignedUpEvent(member.getEmail(), token));
+            eventPublisher.publishEvent(new MemberSignedUpEvent(member.getEmail(), token));
+        });
     }
 
     @Transactional
@@ -76,10 +94,12 @@ public class MemberService {
 
     /**
      * 로그인
+     * BCrypt 검증은 트랜잭션 밖에서 해싱 전용 스레드 풀로 수행하여 검증 중에 DB 커넥션을 점유하지 않는다.
      */
-    @Transactional
+    @Timed(value = "member.login", histogram = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LoginResponseDto login(LoginRequestDto request) {
-        // 1. 회원 조회
+        // 1. 회원 조회 (짧은 읽기 트랜잭션)
         Member member = memberRepository.findByEmail(request.getEmail()).orElseThrow(InvalidCredentialsException::new);
 
         // 2. 이메일 인증 여부 확인
@@ -87,33 +107,33 @@ public class MemberService {
             throw new InvalidCredentialsException("이메일 인증이 필요합니다.");
         }
 
-        // 3. 비밀번호 검증
-        if (!member.matchesPassword(request.getPassword(), passwordEncoder)) {
+        // 3. 비밀번호 검증 (해싱 스레드 풀, 과부하 시 즉시 거절)
+        boolean matches =
+                passwordHashingExecutor.call(() -> member.matchesPassword(request.getPassword(), passwordEncoder));
+        if (!matches) {
             throw new InvalidCredentialsException();
         }
 
-        // 4. JWT 토큰 생성
+        // 4. 설정된 해시 비용이 바뀌었으면 새 비용으로 재해싱 (트랜잭션 밖에서 계산)
+        String upgradedPassword = member.needsPasswordUpgrade(passwordEncoder)
+                ? passwordHashingExecutor.call(() -> passwordEncoder.encode(request.getPassword()))
+                : null;
+
+        // 5. JWT 토큰 생성
         String accessToken = jwtTokenProvider.generateToken(
                 member.getId(), member.getEmail(), member.getRole().name());
         String refreshToken = jwtTokenProvider.generateRefreshToken(member.getId());
 
-        // 5. Refresh Token 저장
+        // 6. Refresh Token 저장 및 재해싱 결과 반영 (짧은 쓰기 트랜잭션)
         Instant expiryDate = Instant.now().plusMillis(jwtProperties.getRefreshExpiration());
-        RefreshToken refreshTokenEntity =
-                refreshTokenRepository.findByMemberId(member.getId()).orElse(null);
-
-        if (refreshTokenEntity != null) {
-            refreshTokenEntity.updateToken(refreshToken, expiryDate);
-        } else {
-            refreshTokenEntity = RefreshToken.builder()
-                    .memberId(member.getId())
-                    .token(refreshToken)
-                    .expiryDate(expiryDate)
-                    .build();
-            refreshTokenRepository.save(refreshTokenEntity);
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenStore.save(member.getId(), refreshToken, expiryDate);
+            if (upgradedPassword != null) {
+                memberRepository.findById(member.getId()).ifPresent(m -> m.upgradePassword(upgradedPassword));
+            }
+        });
 
-        // 6. 응답 DTO 생성
+        // 7. 응답 DTO 생성
         return new LoginResponseDto(
                 accessToken, refreshToken, member.getEmail(), member.getRole().name());
     }
@@ -121,6 +141,7 @@ public class MemberService {
     /**
      * 토큰 재발급
      */
+    @Timed(value = "member.reissue", histogram = true)
     @Transactional
     public TokenResponseDto reissue(String refreshToken) {
         // 1. Refresh Token 유효성 검증
@@ -130,19 +151,19 @@ public class MemberService {
             }
         } catch (ExpiredJwtException e) {
             // 만료된 토큰인 경우 DB에서도 삭제하고 예외 발생
-            refreshTokenRepository.findByToken(refreshToken).ifPresent(refreshTokenRepository::delete);
+            refreshTokenStore.findByToken(refreshToken).ifPresent(refreshTokenStore::delete);
             throw new InvalidCredentialsException();
         } catch (Exception e) {
             throw new InvalidCredentialsException();
         }
 
-        // 2. DB에서 토큰 조회
+        // 2. DB에서 토큰 조회 (다이제스트 인덱스 조회)
         RefreshToken tokenEntity =
-                refreshTokenRepository.findByToken(refreshToken).orElseThrow(() -> new InvalidCredentialsException());
+                refreshTokenStore.findByToken(refreshToken).orElseThrow(() -> new InvalidCredentialsException());
 
         // 3. 만료 확인 (DB에 저장된 만료 시간)
         if (tokenEntity.getExpiryDate().isBefore(Instant.now())) {
-            refreshTokenRepository.delete(tokenEntity);
+            refreshTokenStore.delete(tokenEntity);
             throw new InvalidCredentialsException();
         }
 
@@ -158,7 +179,7 @@ public class MemberService {
 
         // 6. Refresh Token 업데이트 (Rotation)
         Instant expiryDate = Instant.now().plusMillis(jwtProperties.getRefreshExpiration());
-        tokenEntity.updateToken(newRefreshToken, expiryDate);
+        refreshTokenStore.rotate(tokenEntity, newRefreshToken, expiryDate);
 
         return TokenResponseDto.builder()
                 .accessToken(newAccessToken)
@@ -166,6 +187,27 @@ public class MemberService {
                 .build();
     }
 
+    /**
+     * 로그아웃
+     * Access Token은 만료 전까지 폐기 목록에 올리고, Refresh Token은 삭제한다.
+     */
+    @Transactional
+    public void logout(String accessToken) {
+        // 1. Access Token 검증
+        TokenClaims claims;
+        try {
+            claims = jwtTokenProvider.resolveToken(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidCredentialsException();
+        }
+
+        // 2. Access Token 폐기
+        tokenRevocationService.revoke(claims.tokenId(), claims.expiresAt());
+
+        // 3. Refresh Token 삭제
+        refreshTokenStore.deleteByMemberId(claims.memberId());
+    }
+
     /**
      * 이메일로 회원 조회 (추후 사용)
      */
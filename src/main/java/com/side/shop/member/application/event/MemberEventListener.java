@@ -1,25 +1,23 @@
 package com.side.shop.member.application.event;
 
-import com.side.shop.common.application.MailService;
+import com.side.shop.common.application.MailOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.util.UriComponentsBuilder;
 
 @Component
 @RequiredArgsConstructor
 public class MemberEventListener {
 
-    private final MailService mailService;
+    private final MailOutboxService mailOutboxService;
 
     @Value("${app.base-url}")
     private String baseUrl;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    // 회원가입 트랜잭션 안에서 아웃박스에 저장 (커밋되면 발송 보장, 롤백되면 함께 취소)
+    @EventListener
     public void handleMemberSignedUpEvent(MemberSignedUpEvent event) {
         sendVerificationEmail(event.getEmail(), event.getVerificationToken());
     }
@@ -35,6 +33,6 @@ public class MemberEventListener {
         String subject = "Shoemoa 회원가입 이메일 인증";
         String text = "아래 링크를 클릭하여 이메일 인증을 완료해주세요.\n" + verificationUrl;
 
-        mailService.sendEmail(email, subject, text);
+        mailOutboxService.enqueue(email, subject, text);
     }
 }
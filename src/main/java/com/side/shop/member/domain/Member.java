@@ -1,19 +1,29 @@
 package com.side.shop.member.domain;
 
 import com.side.shop.common.domain.BaseEntity;
+import com.side.shop.common.domain.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Getter
 @Entity
 @Table(name = "members")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEMBER)
+@NaturalIdCache(region = CacheRegions.MEMBER_EMAIL)
 public class Member extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // 변경되지 않는 자연 키 (MemberRepository.findByEmail 은 자연 키 캐시로 조회)
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -43,7 +53,11 @@ public class Member extends BaseEntity {
 
     // 일반 회원 생성 (정적 팩토리 메서드)
     public static Member createUser(String email, String rawPassword, PasswordEncoder passwordEncoder) {
-        String encodedPassword = passwordEncoder.encode(rawPassword);
+        return createUserWithEncodedPassword(email, passwordEncoder.encode(rawPassword));
+    }
+
+    // 일반 회원 생성: 해싱이 끝난 비밀번호로 생성 (해싱은 트랜잭션 밖에서 수행)
+    public static Member createUserWithEncodedPassword(String email, String encodedPassword) {
         return new Member(email, encodedPassword, MemberRole.USER, false);
     }
 
@@ -58,6 +72,16 @@ public class Member extends BaseEntity {
         return passwordEncoder.matches(rawPassword, this.password);
     }
 
+    // 비즈니스 로직: 비밀번호 해시 비용 변경 필요 여부
+    public boolean needsPasswordUpgrade(PasswordEncoder passwordEncoder) {
+        return passwordEncoder.upgradeEncoding(this.password);
+    }
+
+    // 비즈니스 로직: 새 비용으로 다시 계산한 해시로 교체 (해싱은 트랜잭션 밖에서 수행)
+    public void upgradePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     // 비즈니스 로직: 비밀번호 변경
     public void changePassword(String newRawPassword, PasswordEncoder passwordEncoder) {
         this.password = passwordEncoder.encode(newRawPassword);
@@ -0,0 +1,7 @@
+package com.side.shop.member.exception;
+
+public class MissingAccessTokenException extends RuntimeException {
+    public MissingAccessTokenException() {
+        super("Authorization 헤더에 Access Token이 필요합니다.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.side.shop.member.infrastructure;
+
+import com.side.shop.member.domain.Member;
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+
+    Optional<Member> findByEmail(String email);
+}
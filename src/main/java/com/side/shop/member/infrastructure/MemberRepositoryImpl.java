@@ -0,0 +1,30 @@
+package com.side.shop.member.infrastructure;
+
+import com.side.shop.member.domain.Member;
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    private final EntityManager em;
+
+    public MemberRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    // 이메일(자연 키)로 조회
+    // 2차 캐시의 이메일 → id 매핑과 회원 엔티티가 모두 있으면 쿼리 없이 반환 (로그인, UserDetailsService)
+    // Session을 직접 쓰므로 트랜잭션 밖(로그인)에서 호출되어도 조회 동안 세션이 열려 있도록 트랜잭션 적용
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Member> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return em.unwrap(Session.class).bySimpleNaturalId(Member.class).loadOptional(email);
+    }
+}
@@ -3,6 +3,8 @@ package com.side.shop.member.presentation;
 import com.side.shop.common.exception.ErrorResponse;
 import com.side.shop.common.presentation.dto.MessageResponse;
 import com.side.shop.member.application.MemberService;
+import com.side.shop.member.exception.InvalidCredentialsException;
+import com.side.shop.member.exception.MissingAccessTokenException;
 import com.side.shop.member.presentation.dto.LoginRequestDto;
 import com.side.shop.member.presentation.dto.LoginResponseDto;
 import com.side.shop.member.presentation.dto.SignupRequestDto;
@@ -142,4 +144,45 @@ public class MemberController {
                 .header(HttpHeaders.SET_COOKIE, cookie.toString())
                 .body(response);
     }
+
+    @Operation(summary = "로그아웃", description = "Access Token을 폐기하고 Refresh Token을 삭제합니다.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "로그아웃 성공",
+                        content = @Content(schema = @Schema(implementation = MessageResponse.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Authorization 헤더 누락",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(
+                        responseCode = "401",
+                        description = "유효하지 않은 Access Token",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping("/logout")
+    public ResponseEntity<MessageResponse> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || authorization.isBlank()) {
+            throw new MissingAccessTokenException();
+        }
+        if (!authorization.startsWith("Bearer ")) {
+            throw new InvalidCredentialsException();
+        }
+        memberService.logout(authorization.substring(7));
+
+        // Refresh Token 쿠키 제거
+        ResponseCookie cookie = ResponseCookie.from("refreshToken", "")
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(0)
+                .sameSite("Strict")
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, cookie.toString())
+                .body(new MessageResponse("로그아웃되었습니다."));
+    }
 }
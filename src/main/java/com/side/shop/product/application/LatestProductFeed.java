@@ -0,0 +1,215 @@
+package com.side.shop.product.application;
+
+import com.side.shop.config.datasource.ReadYourWritesGuard;
+import com.side.shop.product.presentation.dto.ProductSearchCond;
+import com.side.shop.product.presentation.dto.ProductSearchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * 최신 상품 피드 (홈 화면: 조건 없는 최신순 첫 페이지)
+ *
+ * 가장 많이 호출되는 검색이라 미리 조회한 결과를 메모리에 두고 요청 경로에서는 DB를 조회하지 않는다 (stale-while-revalidate).
+ * - 갱신: 주기적으로, 상품 변경 커밋 직후, 기동 직후 cacheRefreshExecutor에서 실행
+ *   (커밋 직후 갱신은 복제 지연으로 변경 전 결과를 다시 담지 않도록 primary에서 조회)
+ * - 조회: 갱신 중이거나 DB가 느려도 마지막 결과를 바로 반환, 오래된 결과(stale-after 초과)면 백그라운드 갱신만 요청
+ * - 갱신 실패 시 이전 결과를 유지
+ * - 아직 한 번도 조회하지 못했으면(기동 직후) 비어 있음 → 호출한 쪽에서 DB 조회
+ *
+ * 반환한 Page는 요청끼리 공유하므로 수정하지 않는다.
+ */
+@Slf4j
+@Component
+public class LatestProductFeed {
+
+    // 조회 요청이 몰려도 갱신 요청은 이 간격으로만 제출 (실행기 대기열 초과로 버려져도 다음 조회에서 다시 요청)
+    private static final long REVALIDATE_THROTTLE_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final ProductService productService;
+    private final TaskExecutor cacheRefreshExecutor;
+    private final boolean enabled;
+    private final int size;
+    private final long staleAfterNanos;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private final AtomicBoolean primaryRequested = new AtomicBoolean();
+    private final AtomicLong lastRevalidateNanos = new AtomicLong(System.nanoTime() - REVALIDATE_THROTTLE_NANOS);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+
+    public LatestProductFeed(
+            ProductService productService,
+            @Qualifier("cacheRefreshExecutor") TaskExecutor cacheRefreshExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.product.latest-feed.enabled:true}") boolean enabled,
+            @Value("${app.product.latest-feed.size:20}") int size,
+            @Value("${app.product.latest-feed.stale-after:30s}") Duration staleAfter) {
+        this.productService = productService;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.enabled = enabled;
+        this.size = size;
+        this.staleAfterNanos = staleAfter.toNanos();
+
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshSuccesses = refreshes(meterRegistry, "success");
+        this.refreshFailures = refreshes(meterRegistry, "failure");
+        Gauge.builder("product.latest.feed.age", snapshot, ref -> {
+                    Snapshot current = ref.get();
+                    return current == null ? Double.NaN : (System.nanoTime() - current.loadedAtNanos()) / 1e9;
+                })
+                .baseUnit("seconds")
+                .description("최신 상품 피드 마지막 갱신 후 경과 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 홈 화면 요청(조건 없음, 최신순, 첫 페이지, 피드 크기)이면 메모리의 피드를 반환
+     *
+     * @return 피드 대상이 아니거나 아직 조회한 결과가 없으면 empty
+     */
+    public Optional<Page<ProductSearchResult>> find(ProductSearchCond condition, Pageable pageable) {
+        if (!enabled || !isFeedRequest(condition, pageable)) {
+            return Optional.empty();
+        }
+
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            misses.increment();
+            revalidate();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        if (System.nanoTime() - current.loadedAtNanos() > staleAfterNanos) {
+            revalidate();
+        }
+        return Optional.of(current.page());
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.latest-feed.refresh-interval:30s}")
+    public void scheduledRefresh() {
+        requestRefresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestRefresh();
+    }
+
+    /**
+     * 상품 변경 커밋 직후 primary에서 갱신 (다른 인스턴스의 변경은 주기적 갱신으로 반영)
+     * 요청이 버려지거나 진행 중인 갱신에 합쳐져도 다음 조회는 primary에서 실행된다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductChanged(ProductChangedEvent event) {
+        primaryRequested.set(true);
+        requestRefresh();
+    }
+
+    /**
+     * 백그라운드 갱신 요청 (대기열이 차서 버려지면 다음 주기/조회에서 다시 요청)
+     */
+    public void requestRefresh() {
+        if (enabled) {
+            cacheRefreshExecutor.execute(this::refresh);
+        }
+    }
+
+    /**
+     * 갱신 실행, 이미 갱신 중이면 끝난 뒤 한 번 더 갱신하도록 표시만 한다 (갱신 중 커밋된 변경 반영)
+     */
+    void refresh() {
+        refreshRequested.set(true);
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (refreshRequested.getAndSet(false)) {
+                if (primaryRequested.getAndSet(false)) {
+                    ReadYourWritesGuard.runOnPrimary(this::load);
+                } else {
+                    load();
+                }
+            }
+        } finally {
+            refreshing.set(false);
+        }
+        // 갱신 종료 직전에 들어온 요청
+        if (refreshRequested.get()) {
+            refresh();
+        }
+    }
+
+    private void load() {
+        try {
+            Page<ProductSearchResult> page =
+                    productService.searchProducts(new ProductSearchCond(), PageRequest.of(0, size));
+            snapshot.set(new Snapshot(page, System.nanoTime()));
+            refreshSuccesses.increment();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("최신 상품 피드 갱신 실패, 이전 결과 유지: {}", e.getMessage());
+        }
+    }
+
+    private void revalidate() {
+        long last = lastRevalidateNanos.get();
+        long now = System.nanoTime();
+        if (now - last >= REVALIDATE_THROTTLE_NANOS && lastRevalidateNanos.compareAndSet(last, now)) {
+            requestRefresh();
+        }
+    }
+
+    private boolean isFeedRequest(ProductSearchCond condition, Pageable pageable) {
+        return pageable.getPageNumber() == 0
+                && pageable.getPageSize() == size
+                && pageable.getSort().isUnsorted()
+                && !StringUtils.hasText(condition.getName())
+                && condition.getProductSize() == null
+                && !StringUtils.hasText(condition.getColor())
+                && condition.getMinPrice() == null
+                && condition.getMaxPrice() == null
+                && !Boolean.TRUE.equals(condition.getInStockOnly())
+                && (condition.getSortType() == null || condition.getSortType() == ProductSearchCond.SortType.LATEST);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.latest.feed.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("product.latest.feed.refresh")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Snapshot(Page<ProductSearchResult> page, long loadedAtNanos) {}
+}
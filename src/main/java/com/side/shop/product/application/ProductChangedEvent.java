@@ -0,0 +1,6 @@
+package com.side.shop.product.application;
+
+/**
+ * 상품(옵션, 이미지 포함)이 생성/수정/삭제됨 (커밋 후 최신 상품 피드 갱신용)
+ */
+public record ProductChangedEvent(Long productId) {}
@@ -0,0 +1,76 @@
+package com.side.shop.product.application;
+
+import com.side.shop.common.application.SingleFlight;
+import com.side.shop.common.presentation.dto.FieldSelection;
+import com.side.shop.config.datasource.ReadYourWritesGuard;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import com.side.shop.product.presentation.dto.ProductSearchCond;
+import com.side.shop.product.presentation.dto.ProductSearchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세/검색 동시 요청 합치기
+ *
+ * 인기 상품 상세, 첫 페이지 검색처럼 같은 요청이 몰리면 요청마다 쿼리를 실행하지 않고
+ * 실행 중인 조회 하나의 결과를 함께 받는다 (SingleFlight).
+ * 트랜잭션(ProductService) 바깥에서 합치므로 기다리는 요청은 DB 커넥션을 잡지 않는다.
+ * 자기 쓰기 직후라 primary에서 읽어야 하는 요청(ReadYourWritesGuard)은 복제본 조회에 합치지 않고 직접 조회한다.
+ * app.product.single-flight.enabled: false 면 ProductService를 그대로 호출한다.
+ */
+@Component
+public class ProductReadCoalescer {
+
+    private final ProductService productService;
+    private final ObjectProvider<ReadYourWritesGuard> readYourWritesGuard;
+    private final boolean enabled;
+    private final SingleFlight<DetailKey, ProductDetailDto> details;
+    private final SingleFlight<SearchKey, Page<ProductSearchResult>> searches;
+
+    public ProductReadCoalescer(
+            ProductService productService,
+            ObjectProvider<ReadYourWritesGuard> readYourWritesGuard,
+            MeterRegistry meterRegistry,
+            @Value("${app.product.single-flight.enabled:true}") boolean enabled,
+            @Value("${app.product.single-flight.max-wait:2s}") Duration maxWait) {
+        this.productService = productService;
+        this.readYourWritesGuard = readYourWritesGuard;
+        this.enabled = enabled;
+        this.details = new SingleFlight<>("product.detail", maxWait, meterRegistry);
+        this.searches = new SingleFlight<>("product.search", maxWait, meterRegistry);
+    }
+
+    public ProductDetailDto getProductDetail(Long productId, FieldSelection fields) {
+        if (!shouldCoalesce()) {
+            return productService.getProductDetail(productId, fields);
+        }
+        return details.execute(
+                new DetailKey(productId, fields), () -> productService.getProductDetail(productId, fields));
+    }
+
+    public Page<ProductSearchResult> searchProducts(
+            ProductSearchCond condition, Pageable pageable, FieldSelection fields) {
+        if (!shouldCoalesce()) {
+            return productService.searchProducts(condition, pageable, fields);
+        }
+        return searches.execute(
+                new SearchKey(condition, pageable, fields),
+                () -> productService.searchProducts(condition, pageable, fields));
+    }
+
+    // 복제본 라우팅이 꺼져 있으면 가드 빈이 없음
+    private boolean shouldCoalesce() {
+        ReadYourWritesGuard guard = readYourWritesGuard.getIfAvailable();
+        return enabled && (guard == null || !guard.mustReadPrimary());
+    }
+
+    private record DetailKey(Long productId, FieldSelection fields) {}
+
+    // ProductSearchCond(@Data), PageRequest, FieldSelection 모두 값으로 비교
+    private record SearchKey(ProductSearchCond condition, Pageable pageable, FieldSelection fields) {}
+}
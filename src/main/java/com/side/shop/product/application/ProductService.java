@@ -1,19 +1,25 @@
 package com.side.shop.product.application;
 
 import com.side.shop.common.application.ImageUploader;
+import com.side.shop.common.application.UploadedImage;
+import com.side.shop.common.presentation.dto.FieldSelection;
 import com.side.shop.product.domain.Product;
-import com.side.shop.product.domain.ProductImage;
 import com.side.shop.product.domain.ProductOption;
-import com.side.shop.product.infrastructure.ProductImageRepository;
+import com.side.shop.product.exception.DuplicateProductImageException;
 import com.side.shop.product.infrastructure.ProductRepository;
 import com.side.shop.product.presentation.dto.*;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -22,21 +28,14 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProductService {
 
     private final ProductRepository productRepository;
-    private final ProductImageRepository productImageRepository;
+    private final EntityManagerFactory entityManagerFactory;
     private final ImageUploader imageUploader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    //    @Transactional
-    //    public Long createProduct(CreateProductDto dto) {
-    //        Product product =
-    //                Product.create(dto.getName(), dto.getBrand(), dto.getDescription(), dto.getColor(),
-    // dto.getPrice());
-    //        productRepository.save(product);
-    //
-    //        return product.getId();
-    //    }
-
+    // 이미지 없이 상품 생성 (이미지는 Presigned URL로 직접 업로드 후 등록)
     @Transactional
-    public Long createProduct(CreateProductDto dto, List<MultipartFile> images) {
+    public Long createProduct(CreateProductDto dto) {
         Product product =
                 Product.create(dto.getName(), dto.getBrand(), dto.getDescription(), dto.getColor(), dto.getPrice());
         // NPE 방어
@@ -46,6 +45,15 @@ public class ProductService {
             product.addOption(ProductOption.create(option.getSize(), option.getStock()));
         }
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+
+        return product.getId();
+    }
+
+    @Transactional
+    public Long createProduct(CreateProductDto dto, List<MultipartFile> images) {
+        Long productId = createProduct(dto);
+        Product product = getProduct(productId);
 
         /* TODO
          * S3 업로드는 트랜잭션 롤백 대상이 아님
@@ -54,28 +62,114 @@ public class ProductService {
          * - 이미지 업로드를 트랜잭션 밖에서
          * - 이벤트 기반(@TransactionalEventListener(AFTER_COMMIT))
          */
-        // 1. S3 업로드
-        List<String> imageUrls = imageUploader.uploadProductImages(product.getId(), images);
+        // 1. S3 업로드 (크기, 미리보기 계산 포함)
+        List<UploadedImage> uploadedImages = imageUploader.uploadProductImages(product.getId(), images);
 
         // 2. Entity에 위임
-        product.addImages(imageUrls);
+        addImages(product, uploadedImages);
 
         return product.getId();
     }
 
+    /**
+     * 이미지 직접 업로드용 Presigned URL 발급
+     * 서버는 URL만 발급하고 이미지 바이트는 클라이언트 → S3로 바로 전송된다.
+     */
+    public List<ProductImageUploadUrlDto> issueImageUploadUrls(
+            Long productId, List<CreateProductImageUploadDto> files) {
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. id=" + productId);
+        }
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+
+        return files.stream()
+                .map(file -> imageUploader.presignProductImageUpload(
+                        productId, file.getFileName(), file.getContentType(), file.getSize()))
+                .map(ProductImageUploadUrlDto::new)
+                .toList();
+    }
+
+    /**
+     * 직접 업로드 완료 콜백
+     * 업로드된 객체 검증(S3 조회, 미리보기 계산)은 트랜잭션 밖에서 수행하여 DB 커넥션을 점유하지 않고,
+     * 검증이 끝난 이미지만 짧은 쓰기 트랜잭션으로 ProductImage에 등록한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Long completeImageUpload(Long productId, List<String> keys) {
+        // 1. 상품 확인 (S3 조회 전에 실패)
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다. id=" + productId);
+        }
+
+        // 2. 업로드된 객체 검증 (같은 요청 안의 중복 키는 한 번만)
+        List<String> distinctKeys = keys == null ? List.of() : keys.stream().distinct().toList();
+        List<UploadedImage> uploadedImages = imageUploader.confirmProductImageUploads(productId, distinctKeys);
+
+        // 3. 등록 (짧은 쓰기 트랜잭션), 콜백 재전송 등으로 이미 등록된 이미지면 거절
+        //    같은 상품의 동시 콜백은 상품 행 잠금으로 순서대로 처리 (중복 등록, 썸네일 두 개 방지)
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = productRepository
+                    .findByIdForUpdate(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. id=" + productId));
+            for (UploadedImage image : uploadedImages) {
+                if (product.hasImage(image.url())) {
+                    throw new DuplicateProductImageException(image.url());
+                }
+            }
+            addImages(product, uploadedImages);
+            eventPublisher.publishEvent(new ProductChangedEvent(productId));
+        });
+
+        return productId;
+    }
+
+    private void addImages(Product product, List<UploadedImage> uploadedImages) {
+        for (UploadedImage image : uploadedImages) {
+            product.addImage(image.url(), image.width(), image.height(), image.placeholder());
+        }
+    }
+
+    @Timed(value = "product.search", histogram = true)
     public Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable) {
 
-        return productRepository.searchProducts(condition, pageable);
+        return searchProducts(condition, pageable, FieldSelection.all(ProductSearchResult.FIELDS));
     }
 
-    public ProductDetailDto getProductDetail(Long productId) {
-        Product product = productRepository
-                .findDetailById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+    /**
+     * 선택한 필드만 조회 (?fields=)
+     */
+    @Timed(value = "product.search", histogram = true)
+    public Page<ProductSearchResult> searchProducts(
+            ProductSearchCond condition, Pageable pageable, FieldSelection fields) {
 
-        List<ProductImage> images = productImageRepository.findByProductIdOrderBySortOrder(productId);
+        return productRepository.searchProducts(condition, pageable, fields);
+    }
+
+    /**
+     * 상품 상세
+     * 2차 캐시에 있으면 id 조회 (상품, 옵션/이미지 컬렉션 모두 캐시 적중 시 쿼리 없음)
+     * 없으면 옵션 fetch join 1번 + 이미지 컬렉션 1번, 조회한 결과는 캐시에 올라간다.
+     */
+    @Timed(value = "product.detail", histogram = true)
+    public ProductDetailDto getProductDetail(Long productId) {
+        return getProductDetail(productId, FieldSelection.all(ProductDetailDto.FIELDS));
+    }
 
-        return ProductDetailDto.of(product, images);
+    /**
+     * 선택한 필드만 조회하는 상품 상세 (?fields=)
+     * 옵션을 선택하지 않으면 옵션 fetch join 없이 id 조회, 이미지를 선택하지 않으면 이미지 컬렉션을 읽지 않는다.
+     */
+    @Timed(value = "product.detail", histogram = true)
+    public ProductDetailDto getProductDetail(Long productId, FieldSelection fields) {
+        boolean fetchOptions = fields.includes(ProductDetailDto.OPTIONS)
+                && !entityManagerFactory.getCache().contains(Product.class, productId);
+        Optional<Product> found =
+                fetchOptions ? productRepository.findDetailById(productId) : productRepository.findById(productId);
+        Product product = found.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+
+        return ProductDetailDto.of(product, fields);
     }
 
     @Transactional
@@ -88,6 +182,7 @@ public class ProductService {
             ProductOption productOption = ProductOption.create(option.getSize(), option.getStock());
             product.addOption(productOption);
         }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
         return productId;
     }
 
@@ -98,6 +193,7 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다. id=" + dto.getId()));
 
         product.updateInfo(dto.getName(), dto.getDescription());
+        eventPublisher.publishEvent(new ProductChangedEvent(dto.getId()));
 
         return dto.getId();
     }
@@ -111,6 +207,7 @@ public class ProductService {
         for (UpdateProductOptionDto option : options) {
             product.getOption(option.getId()).updateInfo(option.getSize(), option.getStock());
         }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
 
         return productId;
     }
@@ -118,6 +215,7 @@ public class ProductService {
     @Transactional
     public void deleteProduct(Long productId) {
         productRepository.deleteById(productId);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     @Transactional
@@ -130,6 +228,7 @@ public class ProductService {
             ProductOption option = product.getOption(optionId);
             product.removeOption(option);
         }
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
     }
 
     public Product getProduct(Long productId) {
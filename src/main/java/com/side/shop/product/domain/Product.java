@@ -4,13 +4,18 @@ import static jakarta.persistence.CascadeType.*;
 import static lombok.AccessLevel.*;
 
 import com.side.shop.common.domain.BaseEntity;
+import com.side.shop.common.domain.CacheRegions;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT)
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class Product extends BaseEntity {
@@ -21,16 +26,22 @@ public class Product extends BaseEntity {
 
     private String name;
     private String brand;
+
+    // 상세 설명: 목록/상세 조회에서 쓰지 않으므로 처음 읽을 때 따로 조회 (빌드 시 바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     private String description;
+
     private String color;
     private int price;
 
     @OneToMany(mappedBy = "product", cascade = ALL, orphanRemoval = true)
     @OrderBy("sortOrder ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_IMAGES)
     private List<ProductImage> images = new ArrayList<>();
 
     @OneToMany(mappedBy = "product", cascade = ALL, orphanRemoval = true)
     @OrderBy("productSize ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_OPTIONS)
     private List<ProductOption> options = new ArrayList<>();
 
     public static Product create(String name, String brand, String description, String color, int price) {
@@ -57,16 +68,26 @@ public class Product extends BaseEntity {
     // 이미지 추가
     // 연관관계 메서드
     public void addImages(List<String> imageUrls) {
-        int start = images.size();
-        for (int i = 0; i < imageUrls.size(); i++) {
-            // 첫번째 이미지를 썸네일로
-            boolean thumbnail = i == 0;
-            ProductImage image = ProductImage.create(imageUrls.get(i), start + i, thumbnail);
-            image.assignProduct(this);
-            images.add(image);
+        for (String imageUrl : imageUrls) {
+            addImage(imageUrl, null, null, null);
         }
     }
 
+    // 크기, 미리보기 정보와 함께 이미지 추가
+    public void addImage(String imageUrl, Integer width, Integer height, String placeholder) {
+        int order = images.size();
+        // 첫번째 이미지를 썸네일로 (이미지를 나눠서 추가하는 경우에도 썸네일은 하나)
+        boolean thumbnail = order == 0;
+        ProductImage image = ProductImage.create(imageUrl, order, thumbnail, width, height, placeholder);
+        image.assignProduct(this);
+        images.add(image);
+    }
+
+    // 같은 URL의 이미지가 이미 등록되어 있는지
+    public boolean hasImage(String imageUrl) {
+        return images.stream().anyMatch(image -> image.getImageUrl().equals(imageUrl));
+    }
+
     // 옵션 추가
     // 연관관계 메서드
     public void addOption(ProductOption option) {
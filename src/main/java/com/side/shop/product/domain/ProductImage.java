@@ -4,11 +4,16 @@ import static jakarta.persistence.FetchType.*;
 import static lombok.AccessLevel.PROTECTED;
 
 import com.side.shop.common.domain.BaseEntity;
+import com.side.shop.common.domain.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_IMAGE)
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class ProductImage extends BaseEntity {
@@ -23,11 +28,27 @@ public class ProductImage extends BaseEntity {
     private int sortOrder;
     private boolean thumbnail;
 
+    // 클라이언트가 이미지 도착 전에 레이아웃을 잡을 수 있도록 원본 크기 저장
+    private Integer width;
+    private Integer height;
+
+    // 저화질 미리보기 (16px JPEG data URI)
+    @Column(length = 2048)
+    private String placeholder;
+
     public static ProductImage create(String url, int order, boolean thumbnail) {
+        return create(url, order, thumbnail, null, null, null);
+    }
+
+    public static ProductImage create(
+            String url, int order, boolean thumbnail, Integer width, Integer height, String placeholder) {
         ProductImage img = new ProductImage();
         img.imageUrl = url;
         img.sortOrder = order;
         img.thumbnail = thumbnail;
+        img.width = width;
+        img.height = height;
+        img.placeholder = placeholder;
         return img;
     }
 
@@ -4,11 +4,16 @@ import static jakarta.persistence.FetchType.*;
 import static lombok.AccessLevel.*;
 
 import com.side.shop.common.domain.BaseEntity;
+import com.side.shop.common.domain.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PRODUCT_OPTION)
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public class ProductOption extends BaseEntity {
@@ -0,0 +1,7 @@
+package com.side.shop.product.exception;
+
+public class DuplicateProductImageException extends IllegalArgumentException {
+    public DuplicateProductImageException(String imageUrl) {
+        super("이미 등록된 이미지입니다: " + imageUrl);
+    }
+}
@@ -1,11 +1,14 @@
 package com.side.shop.product.infrastructure;
 
 import com.side.shop.product.domain.Product;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
@@ -17,4 +20,9 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
     // List 컬렉션 2개 이상 X
     @EntityGraph(attributePaths = {"options"})
     Optional<Product> findDetailById(Long id);
+
+    // 이미지 등록처럼 현재 컬렉션을 보고 추가하는 쓰기는 상품 행을 잠가 동시 요청을 순서대로 처리
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
 }
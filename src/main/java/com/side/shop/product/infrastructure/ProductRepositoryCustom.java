@@ -1,5 +1,6 @@
 package com.side.shop.product.infrastructure;
 
+import com.side.shop.common.presentation.dto.FieldSelection;
 import com.side.shop.product.presentation.dto.ProductSearchCond;
 import com.side.shop.product.presentation.dto.ProductSearchResult;
 import org.springframework.data.domain.Page;
@@ -7,5 +8,12 @@ import org.springframework.data.domain.Pageable;
 
 public interface ProductRepositoryCustom {
 
-    Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable);
+    default Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable) {
+        return searchProducts(condition, pageable, FieldSelection.all(ProductSearchResult.FIELDS));
+    }
+
+    /**
+     * 선택한 필드의 컬럼만 조회 (썸네일 필드가 없으면 이미지 조인도 하지 않음)
+     */
+    Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable, FieldSelection fields);
 }
@@ -4,16 +4,24 @@ import static com.side.shop.product.domain.QProduct.product;
 import static com.side.shop.product.domain.QProductImage.*;
 import static com.side.shop.product.domain.QProductOption.*;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.side.shop.common.presentation.dto.FieldSelection;
 import com.side.shop.product.presentation.dto.ProductSearchCond;
 import com.side.shop.product.presentation.dto.ProductSearchResult;
-import com.side.shop.product.presentation.dto.QProductSearchResult;
 import jakarta.persistence.EntityManager;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,55 +32,97 @@ import org.springframework.util.StringUtils;
 @Repository
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
+    // 선택 가능한 필드(응답 JSON 속성명) → 조회 컬럼
+    private static final Map<String, Expression<?>> SEARCH_COLUMNS = Map.of(
+            "id", product.id,
+            "name", product.name,
+            "brand", product.brand,
+            "color", product.color,
+            "price", product.price,
+            ProductSearchResult.THUMBNAIL_URL, productImage.imageUrl,
+            ProductSearchResult.THUMBNAIL_WIDTH, productImage.width,
+            ProductSearchResult.THUMBNAIL_HEIGHT, productImage.height,
+            ProductSearchResult.THUMBNAIL_PLACEHOLDER, productImage.placeholder,
+            "createdAt", product.createdAt);
+
     private final JPAQueryFactory jpaQueryFactory;
 
     public ProductRepositoryImpl(EntityManager em) {
         this.jpaQueryFactory = new JPAQueryFactory(em);
     }
+
     // 검색조건 - 상품명 and 사이즈 and 색상 and 가격
     // 정렬 - 최신순, 가격순, 상품명순
     @Override
-    public Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable) {
+    public Page<ProductSearchResult> searchProducts(
+            ProductSearchCond condition, Pageable pageable, FieldSelection fields) {
         // Fetch Join X
         // Product 기준으로 페이징
-        List<ProductSearchResult> content = jpaQueryFactory
-                .select(new QProductSearchResult(
-                        product.id,
-                        product.name,
-                        product.brand,
-                        product.description,
-                        product.color,
-                        product.price,
-                        productImage.imageUrl,
-                        product.createdAt))
-                .distinct()
-                .from(product)
-                .leftJoin(product.options, productOption)
-                .leftJoin(product.images, productImage)
-                .on(productImage.thumbnail.isTrue())
+        // 사이즈/재고 조건은 옵션 조인 대신 EXISTS (상품 행이 늘어나지 않으므로 DISTINCT 없이 정렬 인덱스로 LIMIT 처리)
+        // 설명(description)은 목록에 표시하지 않으므로 조회하지 않음
+        // 선택한 필드의 컬럼만 조회
+        Set<Expression<?>> columns = new LinkedHashSet<>();
+        fields.fields().stream().map(SEARCH_COLUMNS::get).filter(Objects::nonNull).forEach(columns::add);
+        boolean withAvailableSizes = fields.includes(ProductSearchResult.AVAILABLE_SIZES);
+        if (withAvailableSizes) {
+            columns.add(product.id); // 사이즈를 상품별로 묶기 위해 필요
+        }
+        JPAQuery<Tuple> query = jpaQueryFactory.select(columns.toArray(Expression<?>[]::new)).from(product);
+
+        // 썸네일은 상품당 1장이므로 조인해도 행이 늘어나지 않음, 썸네일 필드를 선택하지 않으면 조인하지 않음
+        if (fields.includesAny(ProductSearchResult.THUMBNAIL_FIELDS)) {
+            query.leftJoin(product.images, productImage).on(productImage.thumbnail.isTrue());
+        }
+
+        List<ProductSearchResult> content = query
                 .where(
                         productNameContains(condition.getName()),
-                        productSizeEq(condition.getProductSize()),
+                        productOptionExists(condition.getProductSize(), condition.getInStockOnly()),
                         productColorEq(condition.getColor()),
                         productPriceBetween(condition.getMinPrice(), condition.getMaxPrice()))
-                .orderBy(getOrderSpecifier(condition.getSortType()))
+                .orderBy(getOrderSpecifier(condition.getSortType()), getTieBreaker(condition.getSortType()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch();
+                .fetch()
+                .stream()
+                .map(ProductRepositoryImpl::toSearchResult)
+                .toList();
+
+        // 재고 있는 사이즈: 페이지 상품 전체를 IN 쿼리 1번으로 조회 (상품마다 옵션을 읽는 N+1 없음)
+        if (withAvailableSizes) {
+            Map<Long, List<Integer>> availableSizes =
+                    findAvailableSizes(content.stream().map(ProductSearchResult::getId).toList());
+            content.forEach(item -> item.setAvailableSizes(availableSizes.getOrDefault(item.getId(), List.of())));
+        }
 
         JPAQuery<Long> countQuery = jpaQueryFactory
-                .select(product.id.countDistinct())
+                .select(product.id.count())
                 .from(product)
-                .leftJoin(product.options, productOption)
                 .where(
                         productNameContains(condition.getName()),
-                        productSizeEq(condition.getProductSize()),
+                        productOptionExists(condition.getProductSize(), condition.getInStockOnly()),
                         productColorEq(condition.getColor()),
                         productPriceBetween(condition.getMinPrice(), condition.getMaxPrice()));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    // 선택하지 않은 컬럼은 Tuple에 없으므로 null (가격은 0)
+    private static ProductSearchResult toSearchResult(Tuple tuple) {
+        Integer price = tuple.get(product.price);
+        return new ProductSearchResult(
+                tuple.get(product.id),
+                tuple.get(product.name),
+                tuple.get(product.brand),
+                tuple.get(product.color),
+                price == null ? 0 : price,
+                tuple.get(productImage.imageUrl),
+                tuple.get(productImage.width),
+                tuple.get(productImage.height),
+                tuple.get(productImage.placeholder),
+                tuple.get(product.createdAt));
+    }
+
     private BooleanExpression productPriceBetween(Integer minPrice, Integer maxPrice) {
         if (minPrice != null && maxPrice != null) {
             return product.price.between(minPrice, maxPrice);
@@ -88,8 +138,35 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         return StringUtils.hasText(color) ? product.color.eq(color) : null;
     }
 
-    private BooleanExpression productSizeEq(Integer size) {
-        return size != null ? productOption.productSize.eq(size) : null;
+    // 사이즈, 재고 조건은 옵션 EXISTS 하나로 확인 (재고만: 재고 있는 옵션이 하나라도 있는 상품)
+    private BooleanExpression productOptionExists(Integer size, Boolean inStockOnly) {
+        boolean inStock = Boolean.TRUE.equals(inStockOnly);
+        if (size == null && !inStock) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+                .from(productOption)
+                .where(
+                        productOption.product.eq(product),
+                        size != null ? productOption.productSize.eq(size) : null,
+                        inStock ? productOption.stock.gt(0) : null)
+                .exists();
+    }
+
+    private Map<Long, List<Integer>> findAvailableSizes(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaQueryFactory
+                .select(productOption.product.id, productOption.productSize)
+                .from(productOption)
+                .where(productOption.product.id.in(productIds), productOption.stock.gt(0))
+                .orderBy(productOption.productSize.asc())
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(
+                        tuple -> tuple.get(productOption.product.id),
+                        Collectors.mapping(tuple -> tuple.get(productOption.productSize), Collectors.toList())));
     }
 
     private BooleanExpression productNameContains(String productName) {
@@ -115,6 +192,13 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         }
     }
 
+    // 정렬 값이 같은 상품끼리 페이지 간 순서가 바뀌지 않도록 id로 한 번 더 정렬 (인덱스 마지막 컬럼)
+    private OrderSpecifier<?> getTieBreaker(ProductSearchCond.SortType sortType) {
+        return sortType == ProductSearchCond.SortType.PRICE_ASC || sortType == ProductSearchCond.SortType.NAME_ASC
+                ? product.id.asc()
+                : product.id.desc();
+    }
+
     private OrderSpecifier<?> createOrder(Sort sort) {
         try {
             Sort.Order order = sort.iterator().next();
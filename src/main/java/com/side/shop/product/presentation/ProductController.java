@@ -1,5 +1,8 @@
 package com.side.shop.product.presentation;
 
+import com.side.shop.common.presentation.dto.FieldSelection;
+import com.side.shop.product.application.LatestProductFeed;
+import com.side.shop.product.application.ProductReadCoalescer;
 import com.side.shop.product.application.ProductService;
 import com.side.shop.product.presentation.dto.*;
 import java.util.List;
@@ -9,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,13 +22,15 @@ import org.springframework.web.multipart.MultipartFile;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductReadCoalescer productReadCoalescer;
+    private final LatestProductFeed latestProductFeed;
 
-    // 상품 생성
-    //    @PostMapping()
-    //    public ResponseEntity<CreateProductResponseDto> createProduct(@RequestBody CreateProductDto dto) {
-    //        Long productId = productService.createProduct(dto);
-    //        return ResponseEntity.ok(new CreateProductResponseDto(productId));
-    //    }
+    // 상품 생성 (이미지는 Presigned URL 발급 후 직접 업로드)
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CreateProductResponseDto> createProduct(@RequestBody CreateProductDto dto) {
+        Long productId = productService.createProduct(dto);
+        return ResponseEntity.ok(new CreateProductResponseDto(productId));
+    }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<CreateProductResponseDto> createProduct(
@@ -33,18 +39,44 @@ public class ProductController {
         return ResponseEntity.ok(new CreateProductResponseDto(productId));
     }
 
+    // 이미지 직접 업로드용 Presigned URL 발급
+    @PostMapping("/{productId}/images/upload-urls")
+    public ResponseEntity<List<ProductImageUploadUrlDto>> issueImageUploadUrls(
+            @PathVariable Long productId, @RequestBody List<CreateProductImageUploadDto> files) {
+        List<ProductImageUploadUrlDto> uploadUrls = productService.issueImageUploadUrls(productId, files);
+        return ResponseEntity.ok(uploadUrls);
+    }
+
+    // 직접 업로드 완료 후 이미지 등록
+    @PostMapping("/{productId}/images")
+    public ResponseEntity<CreateProductResponseDto> completeImageUpload(
+            @PathVariable Long productId, @RequestBody CompleteProductImageUploadDto dto) {
+        productService.completeImageUpload(productId, dto.getKeys());
+        return ResponseEntity.ok(new CreateProductResponseDto(productId));
+    }
+
+    // fields: 응답에 포함할 필드 (예: id,name,price,thumbnailUrl), 없으면 전체
     @GetMapping()
-    public ResponseEntity<Page<ProductSearchResult>> searchProducts(
-            ProductSearchCond condition, @PageableDefault(size = 20) Pageable pageable) {
+    public ResponseEntity<MappingJacksonValue> searchProducts(
+            ProductSearchCond condition,
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String fields) {
 
-        Page<ProductSearchResult> result = productService.searchProducts(condition, pageable);
+        FieldSelection selection = FieldSelection.parse(fields, ProductSearchResult.FIELDS);
+        // 홈 화면(조건 없는 최신순 첫 페이지)은 메모리의 최신 상품 피드로 응답
+        Page<ProductSearchResult> result = latestProductFeed
+                .find(condition, pageable)
+                .orElseGet(() -> productReadCoalescer.searchProducts(condition, pageable, selection));
 
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok(selection.toJson(result, ProductSearchResult.FILTER));
     }
 
+    // fields: 응답에 포함할 필드 (예: name,price,images), 없으면 전체
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductDetailDto> getProductDetail(@PathVariable Long productId) {
-        ProductDetailDto productDetail = productService.getProductDetail(productId);
-        return ResponseEntity.ok(productDetail);
+    public ResponseEntity<MappingJacksonValue> getProductDetail(
+            @PathVariable Long productId, @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, ProductDetailDto.FIELDS);
+        ProductDetailDto productDetail = productReadCoalescer.getProductDetail(productId, selection);
+        return ResponseEntity.ok(selection.toJson(productDetail, ProductDetailDto.FILTER));
     }
 }
@@ -0,0 +1,9 @@
+package com.side.shop.product.presentation.dto;
+
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CompleteProductImageUploadDto {
+    private List<String> keys;
+}
@@ -0,0 +1,10 @@
+package com.side.shop.product.presentation.dto;
+
+import lombok.Data;
+
+@Data
+public class CreateProductImageUploadDto {
+    private String fileName;
+    private String contentType;
+    private long size;
+}
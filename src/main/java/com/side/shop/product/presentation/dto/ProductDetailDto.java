@@ -1,12 +1,28 @@
 package com.side.shop.product.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.side.shop.common.presentation.dto.FieldSelection;
 import com.side.shop.product.domain.Product;
 import com.side.shop.product.domain.ProductImage;
 import java.util.List;
 import lombok.Data;
 
+/**
+ * 상품 상세
+ * ?fields= 로 옵션/이미지를 빼면 해당 컬렉션을 조회하지 않는다.
+ */
 @Data
+@JsonFilter(ProductDetailDto.FILTER)
 public class ProductDetailDto {
+
+    public static final String FILTER = "productDetail";
+
+    public static final String OPTIONS = "options";
+    public static final String IMAGES = "images";
+
+    // 선택할 수 있는 필드 (응답 JSON 속성명)
+    public static final List<String> FIELDS = List.of("name", "brand", "color", "price", OPTIONS, IMAGES);
+
     private String name;
     private String brand;
     private String color;
@@ -41,4 +57,24 @@ public class ProductDetailDto {
 
         return dto;
     }
+
+    // 선택한 컬렉션만 읽음 (선택하지 않은 옵션/이미지는 지연 로딩하지 않음)
+    public static ProductDetailDto of(Product product, FieldSelection fields) {
+        ProductDetailDto dto = new ProductDetailDto();
+
+        dto.name = product.getName();
+        dto.brand = product.getBrand();
+        dto.color = product.getColor();
+        dto.price = product.getPrice();
+
+        if (fields.includes(OPTIONS)) {
+            dto.options =
+                    product.getOptions().stream().map(ProductOptionDetailDto::new).toList();
+        }
+        if (fields.includes(IMAGES)) {
+            dto.images = product.getImages().stream().map(ProductImageDto::new).toList();
+        }
+
+        return dto;
+    }
 }
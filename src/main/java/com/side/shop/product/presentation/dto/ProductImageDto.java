@@ -8,10 +8,16 @@ public class ProductImageDto {
     private String imageUrl;
     private int sortOrder;
     private boolean thumbnail;
+    private Integer width;
+    private Integer height;
+    private String placeholder;
 
     public ProductImageDto(ProductImage img) {
         this.imageUrl = img.getImageUrl();
         this.sortOrder = img.getSortOrder();
         this.thumbnail = img.isThumbnail();
+        this.width = img.getWidth();
+        this.height = img.getHeight();
+        this.placeholder = img.getPlaceholder();
     }
 }
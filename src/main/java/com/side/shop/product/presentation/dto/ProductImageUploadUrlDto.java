@@ -0,0 +1,21 @@
+package com.side.shop.product.presentation.dto;
+
+import com.side.shop.common.application.PresignedImageUpload;
+import java.time.Instant;
+import java.util.Map;
+import lombok.Data;
+
+@Data
+public class ProductImageUploadUrlDto {
+    private String key;
+    private String uploadUrl;
+    private Map<String, String> headers;
+    private Instant expiresAt;
+
+    public ProductImageUploadUrlDto(PresignedImageUpload upload) {
+        this.key = upload.key();
+        this.uploadUrl = upload.uploadUrl();
+        this.headers = upload.headers();
+        this.expiresAt = upload.expiresAt();
+    }
+}
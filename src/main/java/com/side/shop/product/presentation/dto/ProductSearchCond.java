@@ -2,7 +2,7 @@ package com.side.shop.product.presentation.dto;
 
 import lombok.Data;
 
-// %상품명% and 사이즈 and 색상 and 가격 range
+// %상품명% and 사이즈 and 색상 and 가격 range and 재고
 // 정렬 - 최신순, 가격순, 상품명순
 @Data
 public class ProductSearchCond {
@@ -12,6 +12,7 @@ public class ProductSearchCond {
     private String color;
     private Integer minPrice;
     private Integer maxPrice;
+    private Boolean inStockOnly; // 재고 있는 상품만 (사이즈 조건이 있으면 그 사이즈에 재고가 있는 상품)
     private SortType sortType; // 정렬 타입
 
     public enum SortType {
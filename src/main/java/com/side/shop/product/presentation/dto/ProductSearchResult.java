@@ -1,37 +1,78 @@
 package com.side.shop.product.presentation.dto;
 
-import com.querydsl.core.annotations.QueryProjection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.Data;
 
+/**
+ * 상품 목록 한 칸 (목록 화면에 표시하지 않는 설명은 조회하지 않음)
+ * ?fields= 로 일부 필드만 선택하면 선택하지 않은 필드는 조회하지 않고(null/0) 응답에서도 빠진다.
+ */
 @Data
+@JsonFilter(ProductSearchResult.FILTER)
 public class ProductSearchResult {
+
+    public static final String FILTER = "productSearchResult";
+
+    public static final String THUMBNAIL_URL = "thumbnailUrl";
+    public static final String THUMBNAIL_WIDTH = "thumbnailWidth";
+    public static final String THUMBNAIL_HEIGHT = "thumbnailHeight";
+    public static final String THUMBNAIL_PLACEHOLDER = "thumbnailPlaceholder";
+    public static final String AVAILABLE_SIZES = "availableSizes";
+
+    // 썸네일 이미지 조인이 필요한 필드
+    public static final List<String> THUMBNAIL_FIELDS =
+            List.of(THUMBNAIL_URL, THUMBNAIL_WIDTH, THUMBNAIL_HEIGHT, THUMBNAIL_PLACEHOLDER);
+
+    // 선택할 수 있는 필드 (응답 JSON 속성명)
+    public static final List<String> FIELDS = List.of(
+            "id",
+            "name",
+            "brand",
+            "color",
+            "price",
+            THUMBNAIL_URL,
+            THUMBNAIL_WIDTH,
+            THUMBNAIL_HEIGHT,
+            THUMBNAIL_PLACEHOLDER,
+            "createdAt",
+            AVAILABLE_SIZES);
+
     private Long id;
     private String name;
     private String brand;
-    private String description;
     private String color;
     private int price;
     private String thumbnailUrl;
+    private Integer thumbnailWidth;
+    private Integer thumbnailHeight;
+    private String thumbnailPlaceholder;
     private LocalDateTime createdAt;
 
-    @QueryProjection
+    // 재고 있는 사이즈 (오름차순), 페이지 단위로 따로 조회해서 채움
+    private List<Integer> availableSizes;
+
     public ProductSearchResult(
             Long id,
             String name,
             String brand,
-            String description,
             String color,
             int price,
             String thumbnailUrl,
+            Integer thumbnailWidth,
+            Integer thumbnailHeight,
+            String thumbnailPlaceholder,
             LocalDateTime createdAt) {
         this.id = id;
         this.name = name;
         this.brand = brand;
-        this.description = description;
         this.color = color;
         this.price = price;
         this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailWidth = thumbnailWidth;
+        this.thumbnailHeight = thumbnailHeight;
+        this.thumbnailPlaceholder = thumbnailPlaceholder;
         this.createdAt = createdAt;
     }
 }
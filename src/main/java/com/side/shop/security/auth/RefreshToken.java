@@ -1,35 +1,52 @@
 package com.side.shop.security.auth;
 
+import com.side.shop.security.jwt.TokenDigest;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.Instant;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+            @Index(name = "uk_refresh_tokens_token_hash", columnList = "token_hash", unique = true),
+            // 만료 토큰 정리 배치가 expiry_date 범위로 조회
+            @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date")
+        })
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class RefreshToken {
 
     @Id
     @Column(name = "member_id", nullable = false, unique = true)
     private Long memberId;
 
-    @Column(name = "token", nullable = false)
-    private String token;
+    // 토큰 원문 대신 고정 길이 SHA-256 다이제스트만 저장 (인덱스 크기 고정, DB 유출 시 재사용 불가)
+    @Column(name = "token_hash", nullable = false, length = 43)
+    private String tokenHash;
 
     @Column(name = "expiry_date", nullable = false)
     private Instant expiryDate;
 
+    @Builder
+    public RefreshToken(Long memberId, String token, Instant expiryDate) {
+        this.memberId = memberId;
+        this.tokenHash = TokenDigest.sha256(token);
+        this.expiryDate = expiryDate;
+    }
+
     public void updateToken(String token, Instant expiryDate) {
-        this.token = token;
+        this.tokenHash = TokenDigest.sha256(token);
         this.expiryDate = expiryDate;
     }
+
+    public boolean matches(String token) {
+        return tokenHash.equals(TokenDigest.sha256(token));
+    }
 }
@@ -0,0 +1,105 @@
+package com.side.shop.security.auth;
+
+import com.side.shop.common.infrastructure.lock.ClusterLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료된 Refresh Token 정리 배치
+ * 재발급 요청이 다시 오지 않는 회원의 만료 토큰은 reissue 경로에서 지워지지 않으므로 주기적으로 삭제한다.
+ * 배치마다 별도 트랜잭션으로 나누고 사이사이 쉬어서 테이블/인덱스 잠금을 짧게 유지한다.
+ * 여러 노드 중 잠금(ClusterLock)을 얻은 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurgeJob {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ClusterLock clusterLock;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+
+    @Value("${app.refresh-token.purge.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${app.refresh-token.purge.pause:200ms}")
+    private Duration pause;
+
+    @Value("${app.refresh-token.purge.max-batches:1000}")
+    private int maxBatches;
+
+    public RefreshTokenPurgeJob(
+            RefreshTokenRepository refreshTokenRepository,
+            ClusterLock clusterLock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clusterLock = clusterLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgedCounter = Counter.builder("refresh.tokens.purged")
+                .description("삭제된 만료 Refresh Token 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("refresh.tokens.purge.batch")
+                .description("만료 Refresh Token 삭제 배치 1회 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.refresh-token.purge.cron:0 30 4 * * *}")
+    public void purgeExpiredTokens() {
+        clusterLock.runExclusively(LOCK_NAME, () -> purge(Instant.now()));
+    }
+
+    /**
+     * 기준 시각 이전에 만료된 토큰 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제된 토큰 수
+     */
+    public long purge(Instant now) {
+        long total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer deleted = batchTimer.record(() ->
+                    transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredBatch(now, batchSize)));
+            int count = deleted == null ? 0 : deleted;
+
+            purgedCounter.increment(count);
+            total += count;
+
+            // 마지막 배치
+            if (count < batchSize) {
+                break;
+            }
+
+            if (!sleep()) {
+                break;
+            }
+        }
+
+        log.info("만료된 Refresh Token {}건 삭제 (기준 시각: {})", total, now);
+        return total;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,13 +1,38 @@
 package com.side.shop.security.auth;
 
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    // token_hash 유니크 인덱스 조회
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     Optional<RefreshToken> findByMemberId(Long memberId);
+
+    // 만료된 토큰을 최대 batchSize 건만 삭제 (한 번에 테이블을 오래 잠그지 않도록)
+    // 네이티브 DML은 영향받는 테이블을 지정하지 않으면 Hibernate가 2차 캐시 전체를 비우므로 refresh_tokens로 한정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(
+            value =
+                    """
+                    DELETE FROM refresh_tokens
+                    WHERE member_id IN (
+                        SELECT member_id FROM refresh_tokens
+                        WHERE expiry_date < :now
+                        LIMIT :batchSize
+                    )
+                    """,
+            nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
 }
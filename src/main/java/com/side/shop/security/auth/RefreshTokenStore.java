@@ -0,0 +1,91 @@
+package com.side.shop.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.side.shop.security.jwt.JwtProperties;
+import com.side.shop.security.jwt.TokenDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refresh Token 저장소
+ * 토큰 원문은 저장하지 않고 다이제스트로만 조회한다.
+ *
+ * 재발급(Rotation) 경로를 위해 다이제스트 → memberId 캐시를 앞에 둔다.
+ * 캐시는 힌트일 뿐이며 항상 PK로 조회한 행의 다이제스트와 다시 비교하므로,
+ * 다른 노드에서 교체되었거나 롤백된 토큰이 캐시에 남아 있어도 잘못 인증되지 않는다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Cache<String, Long> memberIdByTokenHash;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository, JwtProperties jwtProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.memberIdByTokenHash = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getRefreshTokenCacheSize())
+                .expireAfterWrite(Duration.ofMillis(Math.max(0, jwtProperties.getRefreshExpiration())))
+                .build();
+    }
+
+    public Optional<RefreshToken> findByToken(String token) {
+        String tokenHash = TokenDigest.sha256(token);
+
+        Long memberId = memberIdByTokenHash.getIfPresent(tokenHash);
+        if (memberId != null) {
+            Optional<RefreshToken> cached = refreshTokenRepository
+                    .findById(memberId)
+                    .filter(refreshToken -> refreshToken.getTokenHash().equals(tokenHash));
+            if (cached.isPresent()) {
+                return cached;
+            }
+            memberIdByTokenHash.invalidate(tokenHash);
+        }
+
+        return refreshTokenRepository.findByTokenHash(tokenHash);
+    }
+
+    /**
+     * 로그인 시 저장 (회원당 하나, 있으면 교체)
+     */
+    public void save(Long memberId, String token, Instant expiryDate) {
+        RefreshToken refreshToken = refreshTokenRepository.findById(memberId).orElse(null);
+
+        if (refreshToken != null) {
+            rotate(refreshToken, token, expiryDate);
+            return;
+        }
+
+        refreshToken = RefreshToken.builder()
+                .memberId(memberId)
+                .token(token)
+                .expiryDate(expiryDate)
+                .build();
+        refreshTokenRepository.save(refreshToken);
+        memberIdByTokenHash.put(refreshToken.getTokenHash(), memberId);
+    }
+
+    /**
+     * 재발급 시 교체 (Rotation)
+     */
+    public void rotate(RefreshToken refreshToken, String newToken, Instant expiryDate) {
+        memberIdByTokenHash.invalidate(refreshToken.getTokenHash());
+        refreshToken.updateToken(newToken, expiryDate);
+        memberIdByTokenHash.put(refreshToken.getTokenHash(), refreshToken.getMemberId());
+    }
+
+    /**
+     * 로그아웃 시 회원의 Refresh Token 삭제
+     */
+    public void deleteByMemberId(Long memberId) {
+        refreshTokenRepository.findById(memberId).ifPresent(this::delete);
+    }
+
+    public void delete(RefreshToken refreshToken) {
+        memberIdByTokenHash.invalidate(refreshToken.getTokenHash());
+        refreshTokenRepository.delete(refreshToken);
+    }
+}
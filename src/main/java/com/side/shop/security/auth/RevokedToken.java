@@ -0,0 +1,44 @@
+package com.side.shop.security.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 폐기된 Access Token (jti 기준)
+ * 토큰 만료 시각이 지나면 더 이상 의미가 없으므로 주기적으로 삭제된다.
+ */
+@Entity
+@Table(
+        name = "revoked_tokens",
+        indexes = {
+            // 노드별 증분 동기화가 revoked_at 이후 항목만 조회
+            @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+            @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    public RevokedToken(String jti, Instant expiresAt, Instant revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.side.shop.security.auth;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 아직 만료되지 않은 폐기 토큰 ID (Bloom Filter 재구성용)
+    @Query("select r.jti from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") Instant now);
+
+    // 마지막 동기화 이후 폐기된 토큰 ID (증분 동기화용)
+    @Query("select r.jti from RevokedToken r where r.revokedAt > :since")
+    List<String> findJtisRevokedAfter(@Param("since") Instant since);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
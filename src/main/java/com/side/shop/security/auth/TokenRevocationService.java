@@ -0,0 +1,155 @@
+package com.side.shop.security.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Access Token 폐기 목록
+ *
+ * 요청마다 DB를 조회하지 않도록 폐기된 jti를 메모리 Bloom Filter에 올려두고 먼저 확인한다.
+ * 필터에 없으면 폐기되지 않은 토큰이 확실하므로 바로 통과시키고, 필터 적중(오탐 가능)일 때만 DB를 확인한다.
+ *
+ * - 다른 노드에서 폐기한 토큰은 revoked_at 기준 증분 동기화로 반영한다.
+ * - Bloom Filter는 삭제가 불가능하므로 만료된 항목은 주기적 재구성 시 빠진다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<BloomFilter> filter = new AtomicReference<>();
+
+    // 필터 적중 시 DB 확인 결과 (같은 jti로 반복 요청 시 DB 재조회 방지)
+    private final Cache<String, Boolean> confirmed = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    @Value("${app.security.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${app.security.revocation.false-positive-probability:0.001}")
+    private double falsePositiveProbability;
+
+    @Value("${app.security.revocation.sync-overlap:30s}")
+    private Duration syncOverlap;
+
+    public TokenRevocationService(
+            RevokedTokenRepository revokedTokenRepository, PlatformTransactionManager transactionManager) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각 (이후 자동 삭제)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (jti == null || !expiresAt.isAfter(now)) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt, now));
+
+        // 메모리 반영은 커밋 후 (롤백되면 테이블에 없는 토큰이 이 노드에서만 폐기된 것으로 남으므로)
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markRevoked(jti);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markRevoked(jti);
+            }
+        });
+    }
+
+    private void markRevoked(String jti) {
+        filter.get().put(jti);
+        confirmed.invalidate(jti);
+    }
+
+    /**
+     * 폐기 여부 확인
+     * jti가 없는 토큰(jti 도입 이전 발급)은 폐기할 수 없으므로 항상 false
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.get().mightContain(jti)) {
+            return false;
+        }
+
+        // Cache.get(key, loader)는 로더를 ConcurrentHashMap.compute 안(synchronized)에서 실행하므로
+        // 가상 스레드에서 DB 조회 동안 캐리어 스레드가 고정된다 → 조회는 잠금 밖에서 하고 결과만 저장
+        Boolean cached = confirmed.getIfPresent(jti);
+        if (cached != null) {
+            return cached;
+        }
+        boolean revoked = revokedTokenRepository.existsById(jti);
+        confirmed.put(jti, revoked);
+        return revoked;
+    }
+
+    /**
+     * 증분 동기화: 마지막 동기화 이후 폐기된 토큰을 필터에 추가
+     * 다른 노드의 커밋 지연과 시계 오차를 고려해 sync-overlap 만큼 겹쳐서 조회한다 (중복 추가는 무해).
+     */
+    @Scheduled(
+            fixedDelayString = "${app.security.revocation.sync-interval:5s}",
+            initialDelayString = "${app.security.revocation.sync-interval:5s}")
+    public void sync() {
+        Instant now = Instant.now();
+        List<String> jtis = revokedTokenRepository.findJtisRevokedAfter(lastSyncedAt.minus(syncOverlap));
+
+        BloomFilter current = filter.get();
+        for (String jti : jtis) {
+            current.put(jti);
+            confirmed.invalidate(jti);
+        }
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 재구성: 만료된 폐기 항목을 삭제하고 남은 항목으로 필터를 새로 만든다
+     */
+    @PostConstruct
+    @Scheduled(
+            fixedDelayString = "${app.security.revocation.rebuild-interval:15m}",
+            initialDelayString = "${app.security.revocation.rebuild-interval:15m}")
+    public void rebuild() {
+        Instant now = Instant.now();
+
+        // 1. 만료된 항목 삭제 (만료된 토큰은 서명 검증 단계에서 이미 거부됨)
+        Integer purged = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(now));
+
+        // 2. 남은 항목으로 새 필터 구성
+        List<String> activeJtis = revokedTokenRepository.findActiveJtis(now);
+        BloomFilter rebuilt =
+                BloomFilter.create(Math.max(expectedInsertions, activeJtis.size() * 2L), falsePositiveProbability);
+        activeJtis.forEach(rebuilt::put);
+
+        // 3. 교체 (구성 중 폐기된 항목은 다음 증분 동기화에서 반영)
+        filter.set(rebuilt);
+        lastSyncedAt = now;
+
+        log.debug("폐기 토큰 필터 재구성: 유효 {}건, 만료 삭제 {}건", activeJtis.size(), purged);
+    }
+}
@@ -3,6 +3,9 @@ package com.side.shop.security.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.side.shop.common.exception.ErrorResponse;
 import com.side.shop.security.jwt.JwtAuthenticationFilter;
+import com.side.shop.security.password.AdaptiveBCryptPasswordEncoder;
+import com.side.shop.security.password.PasswordHashingProperties;
+import com.side.shop.security.ratelimit.RateLimitFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Arrays;
@@ -18,7 +21,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -35,7 +37,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final ObjectMapper objectMapper;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
@@ -63,6 +67,10 @@ public class SecurityConfig {
                                 "/webjars/**")
                         .permitAll()
 
+                        // 헬스 체크, 메트릭 수집 (운영에서는 관리 포트로 분리)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus")
+                        .permitAll()
+
                         // Product 조회는 누구나 가능
                         .requestMatchers(HttpMethod.GET, "/api/products/**")
                         .permitAll()
@@ -82,7 +90,10 @@ public class SecurityConfig {
                         )
 
                 // JWT 필터 추가 (UsernamePasswordAuthenticationFilter 앞에)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 인증 API 요청 제한 필터 추가 (JWT 필터 앞, DB/해싱 작업 전에 거절)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -101,6 +112,9 @@ public class SecurityConfig {
             } else if ("INVALID_TOKEN".equals(exception)) {
                 ErrorResponse errorResponse = new ErrorResponse("INVALID_TOKEN", "유효하지 않은 토큰입니다.");
                 sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, errorResponse);
+            } else if ("REVOKED_TOKEN".equals(exception)) {
+                ErrorResponse errorResponse = new ErrorResponse("TOKEN_REVOKED", "폐기된 토큰입니다. 다시 로그인해주세요.");
+                sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, errorResponse);
             } else if ("UNSUPPORTED_TOKEN".equals(exception)) {
                 ErrorResponse errorResponse = new ErrorResponse("UNSUPPORTED_TOKEN", "지원되지 않는 토큰 형식입니다.");
                 sendErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, errorResponse);
@@ -151,9 +165,10 @@ public class SecurityConfig {
 
     /**
      * PasswordEncoder 빈 등록
+     * 설정된 비용과 다른 해시는 로그인 성공 시 재해싱 대상 (upgradeEncoding)
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new AdaptiveBCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength());
     }
 }
@@ -2,10 +2,14 @@ package com.side.shop.security.jwt;
 
 import com.side.shop.member.domain.MemberRole;
 import com.side.shop.security.auth.CustomUserDetails;
+import com.side.shop.security.auth.TokenRevocationService;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,32 +29,30 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        Timer.Sample verification = null;
         try {
             // 1. Request Header에서 JWT 토큰 추출
             String token = getJwtFromRequest(request);
 
-            // 2. 토큰 유효성 검증
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                // 3. 토큰에서 정보 추출
-                Long memberId = jwtTokenProvider.getMemberIdFromToken(token);
-                String email = jwtTokenProvider.getEmailFromToken(token);
-                String role = jwtTokenProvider.getRoleFromToken(token);
+            if (StringUtils.hasText(token)) {
+                verification = Timer.start(meterRegistry);
 
-                // 4. UserDetails 생성 (DB 조회 없이 토큰 정보로만 생성)
-                UserDetails userDetails = new CustomUserDetails(memberId, email, MemberRole.valueOf(role));
+                // 2. 토큰 검증 및 정보 추출 (한 번만 파싱, 검증된 토큰은 캐시 사용)
+                TokenClaims claims = jwtTokenProvider.resolveToken(token);
 
-                // 5. Authentication 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // 6. SecurityContext에 Authentication 설정
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                // 3. 폐기 여부 확인 (Bloom Filter 우선, 적중 시에만 DB 조회)
+                if (tokenRevocationService.isRevoked(claims.tokenId())) {
+                    request.setAttribute("exception", "REVOKED_TOKEN");
+                } else {
+                    authenticate(request, claims);
+                }
             }
         } catch (ExpiredJwtException ex) {
             request.setAttribute("exception", "EXPIRED_TOKEN");
@@ -58,15 +60,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             request.setAttribute("exception", "UNSUPPORTED_TOKEN");
         } catch (SecurityException | MalformedJwtException ex) {
             request.setAttribute("exception", "INVALID_TOKEN");
+        } catch (JwtException | IllegalArgumentException ex) {
+            // 디코딩 실패 등 그 외 JWT 형식 오류
+            request.setAttribute("exception", "INVALID_TOKEN");
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
             request.setAttribute("exception", "UNKNOWN_ERROR");
         }
 
+        if (verification != null) {
+            recordVerification(verification, request);
+        }
+
         // 다음 필터로 이동
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 토큰 검증 시간 기록 (서명 검증 + 폐기 확인, 결과별 태그)
+     */
+    private void recordVerification(Timer.Sample verification, HttpServletRequest request) {
+        Object exception = request.getAttribute("exception");
+        verification.stop(Timer.builder("jwt.verification")
+                .tag("outcome", exception == null ? "VALID" : exception.toString())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private void authenticate(HttpServletRequest request, TokenClaims claims) {
+        // 1. UserDetails 생성 (DB 조회 없이 토큰 정보로만 생성)
+        UserDetails userDetails =
+                new CustomUserDetails(claims.memberId(), claims.email(), MemberRole.valueOf(claims.role()));
+
+        // 2. Authentication 객체 생성
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // 3. SecurityContext에 Authentication 설정
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     /**
      * Request Header에서 JWT 토큰 추출
      * Authorization: Bearer <token>
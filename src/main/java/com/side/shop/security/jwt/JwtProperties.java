@@ -14,4 +14,10 @@ public class JwtProperties {
     private String secret;
     private long expiration;
     private long refreshExpiration;
+
+    // 검증이 끝난 토큰 캐시 최대 개수
+    private long verifiedCacheSize = 10_000;
+
+    // Refresh Token 다이제스트 → 회원 ID 캐시 최대 개수
+    private long refreshTokenCacheSize = 10_000;
 }
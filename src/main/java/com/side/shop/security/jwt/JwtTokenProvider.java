@@ -1,9 +1,15 @@
 package com.side.shop.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,10 +21,21 @@ public class JwtTokenProvider {
     private final JwtProperties jwtProperties;
     private final SecretKey secretKey;
 
+    // JwtParser는 불변 객체이므로 한 번만 만들어 재사용
+    private final JwtParser jwtParser;
+
+    // 서명 검증이 끝난 토큰 캐시 (key: 토큰 SHA-256, 만료: 토큰 exp)
+    private final Cache<String, TokenClaims> verifiedTokens;
+
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         // Secret을 SecretKey 객체로 변환
         this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /**
@@ -34,6 +51,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti, 폐기 시 사용)
                 .setSubject(String.valueOf(memberId)) // 주체 (사용자 ID)
                 .claim("email", email) // 이메일
                 .claim("role", role) // 커스텀 클레임 (역할)
@@ -62,6 +80,36 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Access Token 검증 및 정보 추출 (요청당 한 번만 파싱)
+     * 이미 검증한 토큰은 만료 전까지 캐시에서 바로 반환하여 서명 검증을 생략한다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException 만료, 위조, 형식 오류 등 유효하지 않은 토큰인 경우
+     */
+    public TokenClaims resolveToken(String token) {
+        String cacheKey = TokenDigest.sha256(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parseClaims(token);
+        if ("refresh".equals(claims.get("type", String.class))) {
+            throw new UnsupportedJwtException("Refresh Token은 인증에 사용할 수 없습니다.");
+        }
+
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.getId(),
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration().toInstant());
+        verifiedTokens.put(cacheKey, tokenClaims);
+        return tokenClaims;
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      *
@@ -132,10 +180,27 @@ public class JwtTokenProvider {
      * @return Claims
      */
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 캐시 항목을 토큰 exp 시점에 만료시킴
+     */
+    private static class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
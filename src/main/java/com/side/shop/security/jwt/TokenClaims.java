@@ -0,0 +1,14 @@
+package com.side.shop.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 Access Token 정보
+ *
+ * @param tokenId   토큰 ID (jti, 폐기 목록 조회용)
+ * @param memberId  사용자 ID
+ * @param email     사용자 이메일
+ * @param role      사용자 역할 (ADMIN, USER)
+ * @param expiresAt 만료 시각
+ */
+public record TokenClaims(String tokenId, Long memberId, String email, String role, Instant expiresAt) {}
@@ -0,0 +1,26 @@
+package com.side.shop.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 문자열의 고정 길이 다이제스트 (SHA-256, Base64 URL 43자)
+ * 토큰 원문을 캐시 키나 DB 컬럼에 그대로 두지 않기 위해 사용
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {}
+
+    public static String sha256(String token) {
+        try {
+            // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.side.shop.security.password;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProperties {
+
+    // BCrypt 비용 (2^strength 라운드). 변경 시 로그인 성공한 회원부터 재해싱
+    private int bcryptStrength = 10;
+
+    // 해싱 전용 스레드 수 (0 이하면 CPU 코어 수)
+    private int threads = 0;
+
+    // 대기열 최대 길이 (가득 차면 즉시 거절)
+    private int queueCapacity = 64;
+
+    // 대기열 + 해싱 최대 대기 시간
+    private Duration waitTimeout = Duration.ofSeconds(2);
+
+    // 거절 시 클라이언트에 안내할 재시도 간격 (Retry-After)
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,18 @@
+package com.side.shop.security.password;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 해싱 스레드 풀 과부하로 요청을 거절한 경우 (503 Service Unavailable)
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingRejectedException(Duration retryAfter) {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,148 @@
+package com.side.shop.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.shop.common.exception.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 인증 API 요청 제한 필터 (JwtAuthenticationFilter 앞)
+ * BCrypt, DB 쓰기, 메일 발송 전에 IP/이메일별 토큰 버킷으로 요청 수를 제한하고 초과 시 429를 반환한다.
+ *
+ * IP는 request.getRemoteAddr() 기준이므로, 프록시/로드밸런서 뒤에서는 server.forward-headers-strategy 설정이 필요하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 요청 경로는 정규화(디코딩, 경로 매개변수 ;jsessionid= 제거, 중복/끝 슬래시 제거) 후 대소문자 구분 없이 비교
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private static final List<PathPattern> LIMITED_PATHS =
+            patterns("/api/members/login", "/api/members/signup", "/api/members/reissue");
+
+    // 요청 본문에 email이 있는 경로
+    private static final List<PathPattern> EMAIL_PATHS = patterns("/api/members/login", "/api/members/signup");
+
+    // 로그인/회원가입 본문은 작으므로 이보다 크면 읽지 않고 거절
+    private static final int MAX_BODY_SIZE = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !matches(LIMITED_PATHS, request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // 1. IP 기준 제한
+        long waitNanos = rateLimiter.tryAcquire("ip:" + request.getRemoteAddr(), properties.getIp());
+        if (waitNanos > 0) {
+            reject(response, "ip", waitNanos);
+            return;
+        }
+
+        if (!matches(EMAIL_PATHS, request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 2. 본문을 미리 읽어 이메일 추출 (컨트롤러가 다시 읽을 수 있도록 래핑)
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_SIZE + 1);
+        if (body.length > MAX_BODY_SIZE) {
+            sendErrorResponse(
+                    response,
+                    HttpStatus.PAYLOAD_TOO_LARGE.value(),
+                    new ErrorResponse("PAYLOAD_TOO_LARGE", "요청 본문이 너무 큽니다."));
+            return;
+        }
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+
+        // 3. 이메일 기준 제한
+        String email = extractEmail(body);
+        if (email != null) {
+            waitNanos = rateLimiter.tryAcquire("email:" + email, properties.getEmail());
+            if (waitNanos > 0) {
+                reject(response, "email", waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private static List<PathPattern> patterns(String... paths) {
+        PathPatternParser parser = new PathPatternParser();
+        parser.setCaseSensitive(false);
+        return Arrays.stream(paths).map(parser::parse).toList();
+    }
+
+    private static boolean matches(List<PathPattern> patterns, HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        while (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        return patterns.stream().anyMatch(pattern -> pattern.matches(pathContainer));
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual() || email.asText().isBlank()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // 형식 오류는 컨트롤러의 검증에서 400으로 처리
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, String keyType, long waitNanos) throws IOException {
+        meterRegistry.counter("rate.limit.rejected", "key", keyType).increment();
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        sendErrorResponse(
+                response,
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                new ErrorResponse("TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private void sendErrorResponse(HttpServletResponse response, int status, ErrorResponse errorResponse)
+            throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
@@ -0,0 +1,42 @@
+package com.side.shop.security.ratelimit;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // IP당 제한 (로그인, 회원가입, 재발급 합산)
+    private Rule ip = new Rule(30, Duration.ofMinutes(1));
+
+    // 이메일당 제한 (로그인, 회원가입)
+    private Rule email = new Rule(5, Duration.ofMinutes(1));
+
+    // 이 시간 동안 요청이 없던 버킷은 메모리에서 제거 (period 이상이어야 가득 찬 버킷만 제거됨)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 메모리에 둘 최대 버킷 수 (넘으면 오래 쓰이지 않은 버킷부터 제거)
+    private long maxBuckets = 100_000;
+
+    /**
+     * 토큰 버킷 규칙: 최대 capacity 개까지 몰아서 허용하고, period 동안 capacity 개가 다시 채워진다
+     */
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private int capacity;
+        private Duration period;
+    }
+}
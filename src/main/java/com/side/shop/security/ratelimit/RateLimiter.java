@@ -0,0 +1,46 @@
+package com.side.shop.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키(IP, 이메일)별 토큰 버킷 저장소
+ * 조회는 Cache.getIfPresent로 락 없이 처리하고, 버킷이 없을 때만 생성한다.
+ * 키는 요청마다 달라질 수 있으므로 버킷 수를 max-buckets로 제한하고, idle-timeout 동안 쓰이지 않은 버킷은 제거한다.
+ * (다시 요청이 오면 가득 찬 버킷으로 새로 생성)
+ */
+@Component
+public class RateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleTimeout())
+                .maximumSize(properties.getMaxBuckets())
+                .build();
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인
+     *
+     * @param key  버킷 키 (예: "ip:127.0.0.1")
+     * @param rule 적용할 규칙
+     * @return 허용되면 0, 거절되면 재시도까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String key, RateLimitProperties.Rule rule) {
+        long now = System.nanoTime();
+
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new TokenBucket(rule.getCapacity(), rule.getPeriod(), now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    public long size() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+}
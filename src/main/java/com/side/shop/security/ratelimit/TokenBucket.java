@@ -0,0 +1,43 @@
+package com.side.shop.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 토큰 버킷 (락 없음)
+ * 상태(남은 토큰, 마지막 갱신 시각)를 불변 객체로 두고 CAS로 교체한다.
+ */
+class TokenBucket {
+
+    private record State(double tokens, long updatedAt) {}
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(int capacity, Duration period, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / period.toNanos();
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * 토큰 1개 사용 시도
+     *
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간 (나노초)
+     */
+    long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.updatedAt()) * tokensPerNano);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+}
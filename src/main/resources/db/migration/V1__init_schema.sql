@@ -0,0 +1,58 @@
+-- 기준 스키마: Flyway 도입 전 ddl-auto: update 로 운영 DB에 만들어져 있던 스키마
+-- 기존 DB는 baseline-on-migrate(baseline-version 0)로 V1부터 적용되므로 이미 있는 객체는 건너뛴다 (IF NOT EXISTS).
+-- 이후 추가된 테이블/컬럼/인덱스는 V4, V5 에서 적용한다.
+
+-- 회원
+CREATE TABLE IF NOT EXISTS members (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email              VARCHAR(255) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    role               VARCHAR(255) NOT NULL CHECK (role IN ('ADMIN', 'USER')),
+    email_verified     BOOLEAN      NOT NULL,
+    verification_token VARCHAR(255),
+    created_at         TIMESTAMP(6),
+    last_modified_at   TIMESTAMP(6),
+    CONSTRAINT uk_members_email UNIQUE (email)
+);
+
+-- 상품 (id는 시퀀스, allocationSize 50)
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_option_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_image_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS product (
+    id               BIGINT       NOT NULL PRIMARY KEY,
+    name             VARCHAR(255),
+    brand            VARCHAR(255),
+    description      VARCHAR(255),
+    color            VARCHAR(255),
+    price            INTEGER      NOT NULL,
+    created_at       TIMESTAMP(6),
+    last_modified_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS product_option (
+    id               BIGINT  NOT NULL PRIMARY KEY,
+    product_id       BIGINT REFERENCES product (id),
+    product_size     INTEGER NOT NULL,
+    stock            INTEGER NOT NULL,
+    created_at       TIMESTAMP(6),
+    last_modified_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS product_image (
+    id               BIGINT  NOT NULL PRIMARY KEY,
+    product_id       BIGINT REFERENCES product (id),
+    image_url        VARCHAR(255),
+    sort_order       INTEGER NOT NULL,
+    thumbnail        BOOLEAN NOT NULL,
+    created_at       TIMESTAMP(6),
+    last_modified_at TIMESTAMP(6)
+);
+
+-- 인증 토큰 (원문 token 컬럼은 V4 에서 token_hash 로 교체)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    member_id   BIGINT                      NOT NULL PRIMARY KEY,
+    token       VARCHAR(255)                NOT NULL,
+    expiry_date TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
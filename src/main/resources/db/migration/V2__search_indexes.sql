@@ -0,0 +1,23 @@
+-- 상품 검색(ProductRepositoryImpl.searchProducts)과 상세 조회용 인덱스
+-- 정렬 인덱스는 ORDER BY <정렬 컬럼>, id 순서와 같아 LIMIT만큼만 읽고 멈춘다 (정렬 단계 없음).
+
+-- 1. 정렬별 (SortType): 필터 없음, 가격 범위, 사이즈(EXISTS) 조건에서 사용
+CREATE INDEX idx_product_created_at ON product (created_at DESC, id DESC);  -- LATEST (기본)
+CREATE INDEX idx_product_price ON product (price, id);                      -- PRICE_ASC, PRICE_DESC(역방향 스캔), 가격 범위
+CREATE INDEX idx_product_name ON product (name, id);                        -- NAME_ASC
+
+-- 2. 색상 필터 + 정렬별
+CREATE INDEX idx_product_color_created_at ON product (color, created_at DESC, id DESC);
+CREATE INDEX idx_product_color_price ON product (color, price, id);
+CREATE INDEX idx_product_color_name ON product (color, name, id);
+
+-- 3. 상품명 부분 검색: lower(name) LIKE '%검색어%' 는 B-tree로 찾을 수 없어 트라이그램 GIN 인덱스 사용
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_product_name_trgm ON product USING gin (lower(name) gin_trgm_ops);
+
+-- 4. 옵션: 사이즈 EXISTS 조건(상품별), 상세 조회 옵션 로딩(product_id, @OrderBy productSize)
+CREATE INDEX idx_product_option_product_size ON product_option (product_id, product_size);
+
+-- 5. 이미지: 검색 결과 썸네일 조인 (상품당 썸네일 1장, 부분 인덱스), 상세 조회 이미지 로딩(@OrderBy sortOrder)
+CREATE UNIQUE INDEX uk_product_image_thumbnail ON product_image (product_id) WHERE thumbnail;
+CREATE INDEX idx_product_image_product_sort ON product_image (product_id, sort_order);
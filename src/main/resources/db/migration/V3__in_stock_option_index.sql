@@ -0,0 +1,4 @@
+-- 재고 있는 옵션만 담는 부분 인덱스
+-- 1. 검색 재고 필터 (inStockOnly): EXISTS (product_id [, product_size] AND stock > 0) 를 인덱스만으로 확인
+-- 2. 목록의 재고 있는 사이즈: product_id IN (페이지 상품) AND stock > 0 을 한 번에 조회
+CREATE INDEX idx_product_option_in_stock ON product_option (product_id, product_size) WHERE stock > 0;
@@ -0,0 +1,30 @@
+-- Refresh Token 원문(token) 컬럼을 SHA-256 다이제스트(token_hash)로 교체
+-- 다이제스트 도입 전에 ddl-auto로 만들어진 DB가 대상이며, 이미 token_hash로 만들어진 DB에서는 아무것도 바꾸지 않는다.
+
+-- 1. 다이제스트 컬럼 추가 (기존 행이 있으므로 NULL 허용으로 먼저 추가)
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash VARCHAR(43);
+
+-- 2. 기존 토큰 원문을 TokenDigest.sha256 과 같은 값(SHA-256, Base64 URL, 패딩 없음)으로 변환 → 기존 세션 유지
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM information_schema.columns
+               WHERE table_schema = current_schema()
+                 AND table_name = 'refresh_tokens'
+                 AND column_name = 'token') THEN
+        UPDATE refresh_tokens
+        SET token_hash = rtrim(translate(encode(sha256(convert_to(token, 'UTF8')), 'base64'), '+/', '-_'), '=')
+        WHERE token_hash IS NULL;
+    END IF;
+END $$;
+
+-- 3. 원문 컬럼 삭제 (NOT NULL 이라 남아 있으면 로그인/재발급 INSERT 실패)
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
+
+-- 4. 변환할 수 없는 행은 삭제 (해당 회원은 다시 로그인) 후 NOT NULL
+DELETE FROM refresh_tokens WHERE token_hash IS NULL;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+
+-- 5. 다이제스트 조회(재발급), 만료 토큰 정리 배치
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
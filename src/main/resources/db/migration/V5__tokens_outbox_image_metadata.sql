@@ -0,0 +1,33 @@
+-- 기준 스키마(V1) 이후 엔티티에 추가된 테이블/컬럼/인덱스
+-- 중간 버전을 ddl-auto: update 로 띄운 DB에는 일부가 이미 있을 수 있으므로 모두 IF NOT EXISTS 로 적용한다.
+
+-- 1. 폐기된 Access Token (로그아웃), 인스턴스 간 동기화(revoked_at)와 만료 정리(expires_at)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(36)                 NOT NULL PRIMARY KEY,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+-- 2. 메일 아웃박스, 발송 대상 폴링(status, next_attempt_at)
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient        VARCHAR(255)                NOT NULL,
+    subject          VARCHAR(255)                NOT NULL,
+    body             VARCHAR(4000)               NOT NULL,
+    status           VARCHAR(20)                 NOT NULL
+        CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    attempts         INTEGER                     NOT NULL,
+    next_attempt_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_error       VARCHAR(500),
+    sent_at          TIMESTAMP(6) WITH TIME ZONE,
+    created_at       TIMESTAMP(6),
+    last_modified_at TIMESTAMP(6)
+);
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_status_next_attempt ON mail_outbox (status, next_attempt_at);
+
+-- 3. 상품 이미지 크기와 미리보기 (기존 행은 NULL)
+ALTER TABLE product_image ADD COLUMN IF NOT EXISTS width INTEGER;
+ALTER TABLE product_image ADD COLUMN IF NOT EXISTS height INTEGER;
+ALTER TABLE product_image ADD COLUMN IF NOT EXISTS placeholder VARCHAR(2048);
@@ -0,0 +1,168 @@
+package com.side.shop.common.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 20;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Object> singleFlight =
+            new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실행 중인 조회가 있으면 같은 키의 요청은 조회하지 않고 같은 결과를 받는다")
+    void execute_CollapsesConcurrentRequests() throws Exception {
+        // given
+        Object result = new Object();
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("product-1", () -> block(result)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<Future<Object>> followers = submitFollowers("product-1");
+        awaitCollapsed(FOLLOWERS);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        for (Future<Object> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(requests("load")).isEqualTo(1);
+        assertThat(requests("collapsed")).isEqualTo(FOLLOWERS);
+        assertThat(meterRegistry.get("singleflight.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 기다리던 요청도 같은 예외를 받는다")
+    void execute_PropagatesFailure() throws Exception {
+        // given
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("product-1", () -> {
+            block(null);
+            throw new IllegalStateException("DB 오류");
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        List<Future<Object>> followers = submitFollowers("product-1");
+        awaitCollapsed(FOLLOWERS);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        for (Future<Object> follower : followers) {
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("DB 오류");
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회가 끝난 뒤의 요청과 다른 키의 요청은 새로 조회한다 (결과를 보관하지 않음)")
+    void execute_DoesNotCache() {
+        // when
+        singleFlight.execute("product-1", () -> loads.incrementAndGet());
+        singleFlight.execute("product-1", () -> loads.incrementAndGet());
+        singleFlight.execute("product-2", () -> loads.incrementAndGet());
+
+        // then
+        assertThat(loads).hasValue(3);
+        assertThat(requests("collapsed")).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중인 조회가 maxWait 안에 끝나지 않으면 기다리던 요청은 직접 조회한다")
+    void execute_FallsBackAfterMaxWait() throws Exception {
+        // given
+        SingleFlight<String, Object> shortWait = new SingleFlight<>("short", Duration.ofMillis(50), meterRegistry);
+        Object slow = new Object();
+        Object direct = new Object();
+        Future<Object> leader = executor.submit(() -> shortWait.execute("product-1", () -> block(slow)));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        Object follower = shortWait.execute("product-1", () -> direct);
+        release.countDown();
+
+        // then
+        assertThat(follower).isSameAs(direct);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(slow);
+        assertThat(meterRegistry
+                        .get("singleflight.requests")
+                        .tag("name", "short")
+                        .tag("result", "timeout")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    private Object block(Object result) {
+        loads.incrementAndGet();
+        started.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private List<Future<Object>> submitFollowers(String key) {
+        List<Future<Object>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(key, () -> {
+                loads.incrementAndGet();
+                return new Object();
+            })));
+        }
+        return followers;
+    }
+
+    // 모든 요청이 실행 중인 조회에 합쳐질 때까지 대기 (합쳐진 뒤에 조회를 끝내야 결과 공유를 검증할 수 있음)
+    private void awaitCollapsed(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests("collapsed") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(requests("collapsed")).isEqualTo(expected);
+    }
+
+    private double requests(String result) {
+        return meterRegistry
+                .get("singleflight.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
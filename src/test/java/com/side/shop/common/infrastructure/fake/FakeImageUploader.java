@@ -1,7 +1,12 @@
 package com.side.shop.common.infrastructure.fake;
 
 import com.side.shop.common.application.ImageUploader;
+import com.side.shop.common.application.PresignedImageUpload;
+import com.side.shop.common.application.UploadedImage;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -11,9 +16,29 @@ import org.springframework.web.multipart.MultipartFile;
 public class FakeImageUploader implements ImageUploader {
 
     @Override
-    public List<String> uploadProductImages(Long productId, List<MultipartFile> images) {
+    public List<UploadedImage> uploadProductImages(Long productId, List<MultipartFile> images) {
         return images.stream()
-                .map(file -> "https://fake/" + file.getOriginalFilename())
+                .map(file -> fakeImage("https://fake/" + file.getOriginalFilename()))
                 .toList();
     }
+
+    @Override
+    public PresignedImageUpload presignProductImageUpload(
+            Long productId, String fileName, String contentType, long size) {
+        String key = "products/%d/images/%s-%s".formatted(productId, UUID.randomUUID(), fileName);
+        return new PresignedImageUpload(
+                key,
+                "https://fake-s3/" + key + "?X-Amz-Signature=fake",
+                Map.of("Content-Type", contentType),
+                Instant.now().plusSeconds(600));
+    }
+
+    @Override
+    public List<UploadedImage> confirmProductImageUploads(Long productId, List<String> keys) {
+        return keys.stream().map(key -> fakeImage("https://fake/" + key)).toList();
+    }
+
+    private UploadedImage fakeImage(String url) {
+        return new UploadedImage(url, 800, 600, "data:image/jpeg;base64,fake");
+    }
 }
@@ -0,0 +1,55 @@
+package com.side.shop.common.infrastructure.image;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.common.infrastructure.image.ImagePreviewGenerator.ImagePreview;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ImagePreviewGeneratorTest {
+
+    private final ImagePreviewGenerator generator = new ImagePreviewGenerator();
+
+    @Test
+    @DisplayName("원본 크기와 16px 미리보기 data URI를 계산한다")
+    void generate_preview() throws IOException {
+        // given
+        byte[] png = createPng(1200, 800);
+
+        // when
+        ImagePreview preview = generator.generate(new ByteArrayInputStream(png));
+
+        // then
+        assertThat(preview.width()).isEqualTo(1200);
+        assertThat(preview.height()).isEqualTo(800);
+        assertThat(preview.placeholder()).startsWith("data:image/jpeg;base64,");
+        assertThat(preview.placeholder().length()).isLessThanOrEqualTo(ImagePreviewGenerator.MAX_PLACEHOLDER_LENGTH);
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 이미지는 미리보기 없이 처리한다")
+    void generate_preview_unknown_format() {
+        // when
+        ImagePreview preview = generator.generate(new ByteArrayInputStream("not-an-image".getBytes()));
+
+        // then
+        assertThat(preview).isEqualTo(ImagePreview.EMPTY);
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xff000000 | (x % 256) << 16 | (y % 256) << 8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
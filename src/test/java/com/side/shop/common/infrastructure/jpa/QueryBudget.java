@@ -0,0 +1,38 @@
+package com.side.shop.common.infrastructure.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+/**
+ * 테스트용 쿼리 수 검증 (N+1 회귀 방지)
+ *
+ * 영속성 컨텍스트에 이미 올라온 엔티티는 조회 쿼리가 생략되므로 측정 전에 flush/clear 한다.
+ *
+ * <pre>
+ * em.flush();
+ * em.clear();
+ * ProductDetailDto detail = QueryBudget.expect(2, () -> productService.getProductDetail(productId));
+ * </pre>
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    /**
+     * action 실행 중 정확히 expected 번의 SQL이 실행되었는지 검증하고 결과를 반환
+     */
+    public static <T> T expect(long expected, Supplier<T> action) {
+        long before = QueryCounter.current();
+        T result = action.get();
+        assertThat(QueryCounter.current() - before).as("실행된 SQL 수").isEqualTo(expected);
+        return result;
+    }
+
+    public static void expect(long expected, Runnable action) {
+        expect(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
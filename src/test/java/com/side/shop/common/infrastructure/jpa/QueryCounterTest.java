@@ -0,0 +1,49 @@
+package com.side.shop.common.infrastructure.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.infrastructure.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class QueryCounterTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("Hibernate가 실행한 SQL 수를 스레드별로 센다")
+    void countsStatements() {
+        // given
+        Product product = Product.create("나이키 운동화", "나이키", "러닝화입니다.", "black", 100000);
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+        long before = QueryCounter.current();
+
+        // when
+        productRepository.findById(product.getId());
+        productRepository.count();
+
+        // then
+        assertThat(QueryCounter.current() - before).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쿼리 수가 예산과 다르면 실패한다")
+    void budgetMismatch_Fails() {
+        // when & then
+        assertThatThrownBy(() -> QueryBudget.expect(0, () -> productRepository.count()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("실행된 SQL 수");
+    }
+}
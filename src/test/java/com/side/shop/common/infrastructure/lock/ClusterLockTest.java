@@ -0,0 +1,70 @@
+package com.side.shop.common.infrastructure.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL advisory lock으로 노드 간 배타 실행 확인
+ * 노드 둘은 같은 DB를 보는 ClusterLock 두 개로 흉내 낸다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ClusterLockTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("다른 노드가 실행 중이면 건너뛰고, 끝나면 다시 실행할 수 있다")
+    void runExclusively_SkipsWhileHeld() throws Exception {
+        // given
+        ClusterLock node1 = new ClusterLock(dataSource());
+        ClusterLock node2 = new ClusterLock(dataSource());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> node1.runExclusively("purge", () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean second = node2.runExclusively("purge", runs::incrementAndGet);
+        boolean otherName = node2.runExclusively("other", () -> {});
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second).isFalse();
+        assertThat(otherName).isTrue();
+        assertThat(runs).hasValue(1);
+
+        // 잠금 해제 후에는 다른 노드에서 실행
+        assertThat(node2.runExclusively("purge", runs::incrementAndGet)).isTrue();
+        assertThat(runs).hasValue(2);
+    }
+
+    private DriverManagerDataSource dataSource() {
+        return new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.side.shop.common.infrastructure.mail;
 
 import com.side.shop.common.application.MailService;
+import com.side.shop.common.application.OutgoingMail;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
@@ -8,10 +15,42 @@ import org.springframework.stereotype.Service;
 @Profile("test")
 public class FakeMailService implements MailService {
 
+    private final List<OutgoingMail> sentMails = new CopyOnWriteArrayList<>();
+    private final Set<String> failingRecipients = ConcurrentHashMap.newKeySet();
+
     @Override
     public void sendEmail(String to, String subject, String text) {
         System.out.println("[TEST] Fake email sent to: " + to);
         System.out.println("[TEST] Subject: " + subject);
         System.out.println("[TEST] Content: " + text);
+        sentMails.add(new OutgoingMail(to, subject, text));
+    }
+
+    @Override
+    public Map<Integer, String> sendEmails(List<OutgoingMail> mails) {
+        Map<Integer, String> failures = new HashMap<>();
+        for (int i = 0; i < mails.size(); i++) {
+            OutgoingMail mail = mails.get(i);
+            if (failingRecipients.contains(mail.to())) {
+                failures.put(i, "[TEST] 발송 실패: " + mail.to());
+                continue;
+            }
+            sendEmail(mail.to(), mail.subject(), mail.text());
+        }
+        return failures;
+    }
+
+    public List<OutgoingMail> getSentMails() {
+        return List.copyOf(sentMails);
+    }
+
+    // 테스트에서 특정 수신자 발송 실패를 흉내냄
+    public void failFor(String recipient) {
+        failingRecipients.add(recipient);
+    }
+
+    public void reset() {
+        sentMails.clear();
+        failingRecipients.clear();
     }
 }
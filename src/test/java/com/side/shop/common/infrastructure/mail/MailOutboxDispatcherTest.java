@@ -0,0 +1,97 @@
+package com.side.shop.common.infrastructure.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.common.domain.MailOutbox;
+import com.side.shop.common.domain.MailOutboxStatus;
+import com.side.shop.member.application.MemberService;
+import com.side.shop.member.presentation.dto.SignupRequestDto;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class MailOutboxDispatcherTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private FakeMailService fakeMailService;
+
+    @BeforeEach
+    void setUp() {
+        fakeMailService.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fakeMailService.reset();
+    }
+
+    @Test
+    @DisplayName("회원가입 트랜잭션에서 인증 메일이 아웃박스에 저장되고, 디스패처가 발송한다")
+    void signup_EnqueuesAndDispatches() {
+        // given
+        memberService.signup(new SignupRequestDto("outbox@example.com", "password123"));
+
+        MailOutbox pending = findByRecipient("outbox@example.com");
+        assertThat(pending.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+
+        // when
+        mailOutboxDispatcher.dispatchBatch();
+
+        // then
+        MailOutbox sent = findByRecipient("outbox@example.com");
+        assertThat(sent.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(sent.getBody()).isEmpty();
+        assertThat(fakeMailService.getSentMails())
+                .anySatisfy(mail -> assertThat(mail.to()).isEqualTo("outbox@example.com"));
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 메일만 백오프 후 재시도되도록 예약된다")
+    void dispatch_FailedMailIsRescheduled() {
+        // given
+        fakeMailService.failFor("fail@example.com");
+        memberService.signup(new SignupRequestDto("ok@example.com", "password123"));
+        memberService.signup(new SignupRequestDto("fail@example.com", "password123"));
+
+        // when
+        mailOutboxDispatcher.dispatchBatch();
+
+        // then
+        assertThat(findByRecipient("ok@example.com").getStatus()).isEqualTo(MailOutboxStatus.SENT);
+
+        MailOutbox failed = findByRecipient("fail@example.com");
+        assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("fail@example.com");
+        assertThat(failed.getNextAttemptAt()).isAfter(Instant.now());
+
+        // 백오프 시간 전에는 다시 가져가지 않는다
+        mailOutboxDispatcher.dispatchBatch();
+        assertThat(findByRecipient("fail@example.com").getAttempts()).isEqualTo(1);
+    }
+
+    private MailOutbox findByRecipient(String recipient) {
+        return mailOutboxRepository.findAll().stream()
+                .filter(mail -> mail.getRecipient().equals(recipient))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,68 @@
+package com.side.shop.common.infrastructure.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.common.domain.MailOutbox;
+import com.side.shop.common.domain.MailOutboxStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {"app.mail.outbox.purge.batch-size=1", "app.mail.outbox.purge.pause=0ms"})
+@Transactional
+class MailOutboxPurgeJobTest {
+
+    @Autowired
+    private MailOutboxPurgeJob mailOutboxPurgeJob;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("보관 기간이 지난 SENT, FAILED 메일만 삭제되고 PENDING 메일은 남는다")
+    void purge_FinishedMailsOnly() {
+        // given
+        MailOutbox sent = save("sent@example.com");
+        sent.claim(Instant.now());
+        sent.markSent(Instant.now());
+        MailOutbox failed = save("failed@example.com");
+        failed.claim(Instant.now());
+        failed.markFailed("smtp error", Instant.now(), 1);
+        MailOutbox pending = save("pending@example.com");
+        mailOutboxRepository.flush();
+
+        assertThat(sent.getBody()).isEmpty();
+        assertThat(failed.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+
+        // when - 보관 기간 안이면 삭제하지 않음
+        long notYet = mailOutboxPurgeJob.purge(LocalDateTime.now().minusDays(1));
+
+        // then
+        assertThat(notYet).isZero();
+        assertThat(mailOutboxRepository.existsById(sent.getId())).isTrue();
+
+        // when - 배치 크기 1 → 여러 번에 나누어 삭제
+        double purgedBefore = meterRegistry.counter("mail.outbox.purged").count();
+        long purged = mailOutboxPurgeJob.purge(LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertThat(purged).isGreaterThanOrEqualTo(2);
+        assertThat(meterRegistry.counter("mail.outbox.purged").count() - purgedBefore)
+                .isEqualTo(purged);
+        assertThat(mailOutboxRepository.existsById(sent.getId())).isFalse();
+        assertThat(mailOutboxRepository.existsById(failed.getId())).isFalse();
+        assertThat(mailOutboxRepository.existsById(pending.getId())).isTrue();
+    }
+
+    private MailOutbox save(String recipient) {
+        return mailOutboxRepository.save(MailOutbox.create(recipient, "subject", "body with token"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.side.shop.common.infrastructure.mail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.side.shop.common.application.OutgoingMail;
+import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 로컬 가짜 SMTP 서버(GreenMail)로 실제 SMTP 발송 검증
+ */
+class SmtpMailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpMailService smtpMailService;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.setDefaultEncoding("UTF-8");
+        smtpMailService = new SmtpMailService(mailSender);
+    }
+
+    @Test
+    @DisplayName("여러 메일을 한 번에 발송한다")
+    void sendEmails() throws Exception {
+        // given
+        List<OutgoingMail> mails = List.of(
+                new OutgoingMail("a@example.com", "제목 A", "본문 A"),
+                new OutgoingMail("b@example.com", "제목 B", "본문 B"),
+                new OutgoingMail("c@example.com", "제목 C", "본문 C"));
+
+        // when
+        Map<Integer, String> failures = smtpMailService.sendEmails(mails);
+
+        // then
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("제목 A");
+    }
+}
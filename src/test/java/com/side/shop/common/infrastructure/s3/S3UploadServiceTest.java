@@ -0,0 +1,159 @@
+package com.side.shop.common.infrastructure.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.side.shop.common.application.UploadedImage;
+import com.side.shop.common.infrastructure.image.ImagePreviewGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+/**
+ * 직접 업로드 완료 확인: 실제 ImagePreviewGenerator로 S3 객체(메모리)의 크기와 미리보기를 계산
+ */
+class S3UploadServiceTest {
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private S3UploadService s3UploadService;
+
+    @BeforeEach
+    void setUp() {
+        s3UploadService = new S3UploadService(
+                s3Client, null, new ImagePreviewGenerator(), new SimpleMeterRegistry(), new SimpleAsyncTaskExecutor());
+        ReflectionTestUtils.setField(s3UploadService, "bucket", "test-bucket");
+        ReflectionTestUtils.setField(s3UploadService, "cloudFrontDomain", "cdn.example.com");
+    }
+
+    @Test
+    @DisplayName("업로드된 실제 이미지로 원본 크기와 미리보기를 계산한다")
+    void confirm_generates_real_preview() throws IOException {
+        // given
+        s3Client.objects.put("products/1/images/a.png", createPng(1200, 800));
+        s3Client.objects.put("products/1/images/b.png", createPng(300, 600));
+
+        // when
+        List<UploadedImage> images = s3UploadService.confirmProductImageUploads(
+                1L, List.of("products/1/images/a.png", "products/1/images/b.png"));
+
+        // then - 요청한 키 순서대로
+        assertThat(images).hasSize(2);
+        assertThat(images.get(0).url()).isEqualTo("https://cdn.example.com/products/1/images/a.png");
+        assertThat(images.get(0).width()).isEqualTo(1200);
+        assertThat(images.get(0).height()).isEqualTo(800);
+        assertThat(images.get(0).placeholder()).startsWith("data:image/jpeg;base64,");
+        assertThat(images.get(1).width()).isEqualTo(300);
+        assertThat(images.get(1).height()).isEqualTo(600);
+        assertThat(images.get(1).placeholder()).startsWith("data:image/jpeg;base64,");
+    }
+
+    @Test
+    @DisplayName("HEAD로 검증한 객체(ETag)를 검증한 크기까지만 범위 요청으로 읽는다")
+    void confirm_reads_validated_range() throws IOException {
+        // given
+        byte[] png = createPng(100, 100);
+        s3Client.objects.put("products/1/images/a.png", png);
+
+        // when
+        s3UploadService.confirmProductImageUploads(1L, List.of("products/1/images/a.png"));
+
+        // then
+        assertThat(s3Client.getRequests).hasSize(1);
+        GetObjectRequest request = s3Client.getRequests.get(0);
+        assertThat(request.range()).isEqualTo("bytes=0-" + (png.length - 1));
+        assertThat(request.ifMatch()).isEqualTo(FakeS3Client.eTag(png));
+    }
+
+    @Test
+    @DisplayName("다른 상품 경로의 키가 하나라도 있으면 S3를 조회하지 않고 거절한다")
+    void confirm_rejects_foreign_key_before_s3() throws IOException {
+        // given
+        s3Client.objects.put("products/1/images/a.png", createPng(100, 100));
+
+        // when & then
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> s3UploadService.confirmProductImageUploads(
+                        1L, List.of("products/1/images/a.png", "products/2/images/b.png")));
+        assertThat(s3Client.headKeys).isEmpty();
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x % 256) << 16 | (y % 256) << 8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 메모리에 객체를 보관하는 S3Client (HeadObject, 범위 GetObject만 지원)
+     */
+    static class FakeS3Client implements S3Client {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Set<String> headKeys = ConcurrentHashMap.newKeySet();
+        final List<GetObjectRequest> getRequests = new CopyOnWriteArrayList<>();
+
+        static String eTag(byte[] bytes) {
+            return "\"" + Integer.toHexString(Arrays.hashCode(bytes)) + "\"";
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            headKeys.add(request.key());
+            byte[] bytes = objects.get(request.key());
+            if (bytes == null) {
+                throw NoSuchKeyException.builder().build();
+            }
+            return HeadObjectResponse.builder()
+                    .contentType("image/png")
+                    .contentLength((long) bytes.length)
+                    .eTag(eTag(bytes))
+                    .build();
+        }
+
+        @Override
+        public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+            getRequests.add(request);
+            byte[] bytes = objects.get(request.key());
+            int end = Integer.parseInt(request.range().substring(request.range().indexOf('-') + 1));
+            ByteArrayInputStream in = new ByteArrayInputStream(bytes, 0, Math.min(bytes.length, end + 1));
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(), AbortableInputStream.create(in));
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,136 @@
+package com.side.shop.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@SpringBootTest
+class AsyncConfigTest {
+
+    @Autowired
+    @Qualifier("mailExecutor")
+    private AsyncTaskExecutor mailExecutor;
+
+    @Autowired
+    @Qualifier("imageExecutor")
+    private AsyncTaskExecutor imageExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("작업별 실행기는 스레드 수와 대기열 길이가 제한된다")
+    void executors_AreBounded() {
+        // when
+        ThreadPoolTaskExecutor mail = (ThreadPoolTaskExecutor) mailExecutor;
+
+        // then
+        assertThat(mail.getMaxPoolSize()).isEqualTo(4);
+        assertThat(mail.getQueueCapacity()).isEqualTo(100);
+        assertThat(mail.getThreadNamePrefix()).isEqualTo("mail-");
+    }
+
+    @Test
+    @DisplayName("실행된 작업은 이름이 붙은 스레드에서 실행되고 대기/실행 시간이 기록된다")
+    void executor_RecordsTaskMetrics() throws Exception {
+        // given
+        long before = meterRegistry
+                .get("async.task.duration")
+                .tag("executor", "image")
+                .timer()
+                .count();
+
+        // when
+        String threadName = imageExecutor
+                .submit(() -> Thread.currentThread().getName())
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(threadName).startsWith("image-");
+        // 실행 시간은 작업 결과가 반환된 직후 기록됨
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(meterRegistry
+                                .get("async.task.duration")
+                                .tag("executor", "image")
+                                .timer()
+                                .count())
+                        .isEqualTo(before + 1));
+        assertThat(meterRegistry
+                        .get("async.task.wait")
+                        .tag("executor", "image")
+                        .timer()
+                        .count())
+                .isGreaterThan(0);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("가상 스레드 모드에서도 메일/캐시 갱신 실행기는 제한을 넘은 작업을 기다리지 않고 버린다")
+    void virtualThreadExecutors_DiscardWhenSaturated() throws Exception {
+        // given: 동시 실행 1, 대기열 1
+        AsyncProperties properties = new AsyncProperties();
+        properties.setVirtualThreads(true);
+        properties.setMail(new AsyncProperties.Pool(1, 1, 1));
+        properties.setCacheRefresh(new AsyncProperties.Pool(1, 1, 1));
+        AsyncConfig config = new AsyncConfig(properties, new SimpleMeterRegistry());
+
+        for (String name : List.of("mail", "cache-refresh")) {
+            ThreadPoolTaskExecutor pool = (ThreadPoolTaskExecutor)
+                    (name.equals("mail") ? config.mailExecutor() : config.cacheRefreshExecutor());
+            pool.initialize();
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicInteger runs = new AtomicInteger();
+            AtomicReference<String> threadName = new AtomicReference<>();
+            try {
+                pool.execute(() -> {
+                    threadName.set(Thread.currentThread().getName());
+                    runs.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                pool.execute(runs::incrementAndGet); // 대기열
+
+                // when: 실행 중 1 + 대기 1 을 넘는 작업
+                long submittedAt = System.nanoTime();
+                pool.execute(runs::incrementAndGet);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+
+                // then: 제출 스레드는 기다리지 않고, 넘친 작업은 실행되지 않음
+                assertThat(elapsedMillis).isLessThan(100);
+                release.countDown();
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(runs).hasValue(2));
+                assertThat(threadName.get()).startsWith(name + "-vt-");
+            } finally {
+                release.countDown();
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.side.shop.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.security.jwt.TokenDigest;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Flyway 도입 전 ddl-auto로 만들어진 운영 DB에 prod 설정(baseline-version 0)으로 마이그레이션 적용
+ * Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayUpgradeTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    @DisplayName("기존 DB는 V1부터 적용되어 이후 추가된 테이블/컬럼이 생기고 Refresh Token은 다이제스트로 바뀐다")
+    void migrate_ExistingSchema() {
+        // given: Flyway 도입 전 스키마 + 로그인 중인 회원의 Refresh Token 원문
+        DriverManagerDataSource dataSource = dataSource();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE product_image (id BIGINT NOT NULL PRIMARY KEY, product_id BIGINT,"
+                + " image_url VARCHAR(255), sort_order INTEGER NOT NULL, thumbnail BOOLEAN NOT NULL,"
+                + " created_at TIMESTAMP(6), last_modified_at TIMESTAMP(6))");
+        jdbc.execute("CREATE TABLE refresh_tokens (member_id BIGINT NOT NULL PRIMARY KEY,"
+                + " token VARCHAR(255) NOT NULL, expiry_date TIMESTAMP(6) WITH TIME ZONE NOT NULL)");
+        jdbc.update("INSERT INTO refresh_tokens VALUES (1, 'refresh-token-1', now() + interval '7 days')");
+
+        // when
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        // then
+        assertThat(jdbc.queryForObject("SELECT token_hash FROM refresh_tokens WHERE member_id = 1", String.class))
+                .isEqualTo(TokenDigest.sha256("refresh-token-1"));
+        assertThat(columns(jdbc, "refresh_tokens")).containsExactlyInAnyOrder("member_id", "token_hash", "expiry_date");
+        assertThat(columns(jdbc, "product_image")).contains("width", "height", "placeholder");
+        assertThat(columns(jdbc, "revoked_tokens")).isNotEmpty();
+        assertThat(columns(jdbc, "mail_outbox")).isNotEmpty();
+        List<String> indexes =
+                jdbc.queryForList("SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class);
+        assertThat(indexes)
+                .contains(
+                        "uk_refresh_tokens_token_hash",
+                        "idx_refresh_tokens_expiry_date",
+                        "idx_revoked_tokens_revoked_at",
+                        "idx_revoked_tokens_expires_at",
+                        "idx_mail_outbox_status_next_attempt");
+    }
+
+    private List<String> columns(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForList(
+                "SELECT column_name FROM information_schema.columns"
+                        + " WHERE table_schema = current_schema() AND table_name = ?",
+                String.class,
+                table);
+    }
+
+    private DriverManagerDataSource dataSource() {
+        return new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+}
@@ -0,0 +1,123 @@
+package com.side.shop.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.side.shop.product.application.ProductService;
+import com.side.shop.product.presentation.dto.CreateProductDto;
+import com.side.shop.product.presentation.dto.ProductSearchCond;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("상품 검색과 상세 조회 시간이 기록된다")
+    void productService_RecordsTimers() {
+        // given
+        Long productId = productService.createProduct(new CreateProductDto("에어맥스", "나이키", "설명", "BLACK", 100000));
+        long searchBefore = count("product.search");
+        long detailBefore = count("product.detail");
+
+        // when
+        productService.searchProducts(new ProductSearchCond(), PageRequest.of(0, 20));
+        productService.getProductDetail(productId);
+
+        // then
+        assertThat(count("product.search")).isEqualTo(searchBefore + 1);
+        assertThat(count("product.detail")).isEqualTo(detailBefore + 1);
+    }
+
+    @Test
+    @DisplayName("JWT 검증 시간은 검증 결과별로 기록된다")
+    void jwtVerification_RecordsOutcome() throws Exception {
+        // given
+        long before = count("jwt.verification", "INVALID_TOKEN");
+
+        // when
+        mockMvc.perform(get("/api/products").header("Authorization", "Bearer invalid.token.value"));
+
+        // then
+        assertThat(count("jwt.verification", "INVALID_TOKEN")).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Prometheus 형식으로 히스토그램과 커넥션 풀, 비동기 대기열 게이지를 노출한다")
+    void prometheusEndpoint_ExposesHotPathMetrics() throws Exception {
+        // given
+        productService.searchProducts(new ProductSearchCond(), PageRequest.of(0, 20));
+
+        // when
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        assertThat(body)
+                .contains("product_search_seconds_bucket")
+                .contains("hikaricp_connections_active")
+                .contains("async_task_queued{")
+                .contains("executor=\"mail\"");
+    }
+
+    @Test
+    @DisplayName("요청당 쿼리 수를 엔드포인트 패턴별로 기록한다")
+    void queryCount_RecordedPerEndpoint() throws Exception {
+        // given
+        Long productId = productService.createProduct(new CreateProductDto("에어맥스", "나이키", "설명", "BLACK", 100000));
+        em.flush();
+        em.clear();
+        DistributionSummary before = queries("/api/products/{productId}");
+        double totalBefore = before == null ? 0 : before.totalAmount();
+
+        // when
+        mockMvc.perform(get("/api/products/{productId}", productId)).andExpect(status().isOk());
+
+        // then - 상품+옵션 1번, 이미지 1번
+        assertThat(queries("/api/products/{productId}").totalAmount() - totalBefore).isEqualTo(2);
+    }
+
+    private DistributionSummary queries(String uri) {
+        return meterRegistry.find("http.server.requests.queries").tag("uri", uri).summary();
+    }
+
+    private long count(String name) {
+        Timer timer = meterRegistry.find(name).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private long count(String name, String outcome) {
+        Timer timer = meterRegistry.find(name).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,171 @@
+package com.side.shop.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.common.domain.CacheRegions;
+import com.side.shop.common.infrastructure.jpa.QueryBudget;
+import com.side.shop.member.domain.Member;
+import com.side.shop.member.infrastructure.MemberRepository;
+import com.side.shop.product.application.ProductService;
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.presentation.dto.CreateProductDto;
+import com.side.shop.product.presentation.dto.CreateProductOptionDto;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import com.side.shop.product.presentation.dto.UpdateProductDto;
+import com.side.shop.product.presentation.dto.UpdateProductOptionDto;
+import com.side.shop.security.auth.CustomUserDetailsService;
+import com.side.shop.security.auth.RefreshTokenRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 2차 캐시는 커밋된 데이터만 공유하므로 테스트 트랜잭션 없이 실행하고 만든 데이터는 직접 지운다.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        productIds.forEach(productService::deleteProduct);
+        memberRepository.deleteAllById(memberIds);
+    }
+
+    @Test
+    @DisplayName("상품 상세는 한 번 조회한 뒤부터 쿼리 없이 캐시에서 가져온다")
+    void productDetail_CacheHit() {
+        // given
+        Long productId = createProduct();
+        productService.getProductDetail(productId);
+
+        // when
+        ProductDetailDto detail = QueryBudget.expect(0, () -> productService.getProductDetail(productId));
+
+        // then
+        assertThat(detail.getName()).isEqualTo("에어맥스");
+        assertThat(detail.getOptions()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("상품과 옵션을 수정하면 다음 상세 조회에 반영된다")
+    void productDetail_InvalidatedOnUpdate() {
+        // given
+        Long productId = createProduct();
+        productService.getProductDetail(productId);
+        Long optionId = transactionTemplate.execute(
+                status -> productService.getProduct(productId).getOptions().get(0).getId());
+
+        // when
+        UpdateProductDto update = new UpdateProductDto();
+        update.setId(productId);
+        update.setName("에어맥스 90");
+        update.setDescription("수정된 설명");
+        productService.updateProduct(update);
+
+        UpdateProductOptionDto option = new UpdateProductOptionDto();
+        option.setId(optionId);
+        option.setSize(250);
+        option.setStock(0);
+        productService.updateOptions(productId, List.of(option));
+
+        // then
+        ProductDetailDto after = productService.getProductDetail(productId);
+        assertThat(after.getName()).isEqualTo("에어맥스 90");
+        assertThat(after.getOptions().get(0).getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("이메일로 회원을 조회하면 한 번 조회한 뒤부터 쿼리 없이 자연 키 캐시를 사용한다")
+    void memberByEmail_NaturalIdCacheHit() {
+        // given
+        String email = "cached-member@example.com";
+        Member member = memberRepository.save(Member.createUser(email, "password123!", passwordEncoder));
+        memberIds.add(member.getId());
+        userDetailsService.loadUserByUsername(email);
+
+        // when & then
+        QueryBudget.expect(0, () -> userDetailsService.loadUserByUsername(email));
+        QueryBudget.expect(0, () -> memberRepository.findByEmail(email).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 정리(네이티브 삭제)는 상품 캐시를 비우지 않는다")
+    void nativeDelete_KeepsOtherRegions() {
+        // given
+        Long productId = createProduct();
+        productService.getProductDetail(productId);
+
+        // when
+        transactionTemplate.execute(status -> refreshTokenRepository.deleteExpiredBatch(Instant.now(), 100));
+
+        // then
+        assertThat(entityManagerFactory.getCache().contains(Product.class, productId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("영역별 적중/미스 통계가 수집된다")
+    void regionStatistics() {
+        // given
+        Long productId = createProduct();
+        CacheRegionStatistics statistics = entityManagerFactory
+                .unwrap(SessionFactory.class)
+                .getStatistics()
+                .getDomainDataRegionStatistics(CacheRegions.PRODUCT);
+        long hitsBefore = statistics.getHitCount();
+
+        // when
+        productService.getProductDetail(productId);
+        productService.getProductDetail(productId);
+
+        // then
+        assertThat(statistics.getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    private Long createProduct() {
+        Long productId = productService.createProduct(new CreateProductDto("에어맥스", "나이키", "설명", "BLACK", 100000));
+        productService.createOptions(productId, List.of(option(250, 10), option(260, 5)));
+        productIds.add(productId);
+        return productId;
+    }
+
+    private CreateProductOptionDto option(int size, int stock) {
+        CreateProductOptionDto option = new CreateProductOptionDto();
+        option.setSize(size);
+        option.setStock(stock);
+        return option;
+    }
+}
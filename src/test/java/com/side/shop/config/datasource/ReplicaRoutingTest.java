@@ -0,0 +1,208 @@
+package com.side.shop.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.member.domain.MemberRole;
+import com.side.shop.product.application.ProductService;
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.presentation.dto.CreateProductDto;
+import com.side.shop.product.presentation.dto.CreateProductOptionDto;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import com.side.shop.security.auth.CustomUserDetails;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Cache;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복제본 2개(H2 메모리 DB)를 두고 트랜잭션 종류별로 실제 연결된 DB URL을 확인
+ */
+@SpringBootTest(
+        properties = {
+            "app.datasource.replicas[0].url=jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1",
+            "app.datasource.replicas[0].username=sa",
+            "app.datasource.replicas[1].url=jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1",
+            "app.datasource.replicas[1].username=sa",
+            "app.datasource.selection=round-robin"
+        })
+class ReplicaRoutingTest {
+
+    private static final String PRIMARY = "jdbc:h2:mem:testdb";
+    private static final String REPLICA_1 = "jdbc:h2:mem:replica1";
+    private static final String REPLICA_2 = "jdbc:h2:mem:replica2";
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 실행된다")
+    void readOnly_RoutesToReplica() {
+        // when
+        String url = connectedUrl(true);
+
+        // then
+        assertThat(url).isIn(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary에서 실행된다")
+    void readWrite_RoutesToPrimary() {
+        // when
+        String url = connectedUrl(false);
+
+        // then
+        assertThat(url).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("라운드 로빈이면 읽기 전용 트랜잭션이 복제본에 번갈아 배정된다")
+    void readOnly_RoundRobin() {
+        // when
+        String first = connectedUrl(true);
+        String second = connectedUrl(true);
+
+        // then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("회원이 쓰기를 커밋한 직후에는 그 회원의 읽기도 primary에서 실행된다")
+    void readYourWrites_RoutesToPrimary() {
+        // given
+        authenticate(1001L);
+        connectedUrl(false);
+
+        // when
+        String ownRead = connectedUrl(true);
+        authenticate(1002L);
+        String otherRead = connectedUrl(true);
+
+        // then
+        assertThat(ownRead).isEqualTo(PRIMARY);
+        assertThat(otherRead).isIn(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("runOnPrimary 안의 읽기 전용 트랜잭션은 primary에서 실행된다")
+    void runOnPrimary_RoutesToPrimary() {
+        // when
+        String[] hinted = new String[1];
+        ReadYourWritesGuard.runOnPrimary(() -> hinted[0] = connectedUrl(true));
+        String after = connectedUrl(true);
+
+        // then
+        assertThat(hinted[0]).isEqualTo(PRIMARY);
+        assertThat(after).isIn(REPLICA_1, REPLICA_2);
+    }
+
+    @Test
+    @DisplayName("지연된 복제본에서 읽은 컬렉션은 2차 캐시에 넣지 않아 primary에서 다시 읽은 값이 캐시된다")
+    void laggingReplica_DoesNotFillSecondLevelCache() throws SQLException {
+        // given: 옵션 1개인 상품이 복제된 뒤 primary에서만 옵션 추가 (복제 지연)
+        Long productId = productService.createProduct(new CreateProductDto("에어맥스", "나이키", "설명", "BLACK", 100000));
+        try {
+            productService.createOptions(productId, List.of(option(250)));
+            copyPrimaryToReplicas();
+            productService.createOptions(productId, List.of(option(260)));
+            entityManagerFactory.getCache().evictAll();
+
+            // when
+            ProductDetailDto fromReplica = productService.getProductDetail(productId);
+            boolean cachedFromReplica = entityManagerFactory
+                    .getCache()
+                    .unwrap(Cache.class)
+                    .containsCollection(Product.class.getName() + ".options", productId);
+            List<ProductDetailDto> fromPrimary = new ArrayList<>();
+            ReadYourWritesGuard.runOnPrimary(() -> fromPrimary.add(productService.getProductDetail(productId)));
+            ProductDetailDto afterPrimary = productService.getProductDetail(productId);
+
+            // then - 복제본 조회는 이전 값이지만 캐시에 남지 않고, 이후 조회는 primary에서 채운 캐시를 읽는다
+            assertThat(fromReplica.getOptions()).hasSize(1);
+            assertThat(cachedFromReplica).isFalse();
+            assertThat(fromPrimary.get(0).getOptions()).hasSize(2);
+            assertThat(afterPrimary.getOptions()).hasSize(2);
+        } finally {
+            productService.deleteProduct(productId);
+            entityManagerFactory.getCache().evictAll();
+            for (String replica : List.of(REPLICA_1, REPLICA_2)) {
+                try (Connection connection = DriverManager.getConnection(replica, "sa", "");
+                        Statement statement = connection.createStatement()) {
+                    statement.execute("DROP ALL OBJECTS");
+                }
+            }
+        }
+    }
+
+    private String connectedUrl(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> em.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getURL()));
+    }
+
+    /**
+     * 현재 primary 스키마와 데이터를 두 복제본에 복사 (이후 primary 변경은 복제되지 않음)
+     */
+    private static void copyPrimaryToReplicas() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection primary = DriverManager.getConnection(PRIMARY, "sa", "");
+                Statement statement = primary.createStatement();
+                ResultSet resultSet = statement.executeQuery("SCRIPT")) {
+            while (resultSet.next()) {
+                script.add(resultSet.getString(1));
+            }
+        }
+        for (String replica : List.of(REPLICA_1, REPLICA_2)) {
+            try (Connection connection = DriverManager.getConnection(replica, "sa", "");
+                    Statement statement = connection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+                for (String sql : script) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private static CreateProductOptionDto option(int size) {
+        CreateProductOptionDto option = new CreateProductOptionDto();
+        option.setSize(size);
+        option.setStock(10);
+        return option;
+    }
+
+    private static void authenticate(Long memberId) {
+        CustomUserDetails user = new CustomUserDetails(memberId, "member" + memberId + "@example.com", MemberRole.USER);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -13,6 +13,7 @@ import com.side.shop.member.presentation.dto.SignupRequestDto;
 import com.side.shop.member.presentation.dto.TokenResponseDto;
 import com.side.shop.security.auth.RefreshToken;
 import com.side.shop.security.auth.RefreshTokenRepository;
+import com.side.shop.security.auth.TokenRevocationService;
 import com.side.shop.security.jwt.JwtProperties;
 import com.side.shop.security.jwt.JwtTokenProvider;
 import java.time.Instant;
@@ -20,6 +21,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -41,6 +45,12 @@ class MemberServiceTest {
     @Autowired
     private JwtProperties jwtProperties;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Test
     @DisplayName("회원가입이 성공하면 DB에 저장된다")
     void signup_Success() {
@@ -99,7 +109,9 @@ class MemberServiceTest {
         // Refresh Token이 DB에 저장되었는지 확인
         RefreshToken savedRefreshToken =
                 refreshTokenRepository.findByMemberId(member.getId()).orElseThrow();
-        assertThat(savedRefreshToken.getToken()).isEqualTo(response.getRefreshToken());
+        assertThat(savedRefreshToken.matches(response.getRefreshToken())).isTrue();
+        // 토큰 원문은 저장하지 않는다
+        assertThat(savedRefreshToken.getTokenHash()).isNotEqualTo(response.getRefreshToken());
     }
 
     @Test
@@ -161,7 +173,10 @@ class MemberServiceTest {
         // DB에 새로운 Refresh Token이 저장되었는지 확인
         RefreshToken savedRefreshToken =
                 refreshTokenRepository.findByMemberId(member.getId()).orElseThrow();
-        assertThat(savedRefreshToken.getToken()).isEqualTo(tokenResponse.getRefreshToken());
+        assertThat(savedRefreshToken.matches(tokenResponse.getRefreshToken())).isTrue();
+
+        // 교체된 이전 토큰으로는 더 이상 재발급할 수 없다
+        assertThatThrownBy(() -> memberService.reissue(refreshToken)).isInstanceOf(InvalidCredentialsException.class);
     }
 
     @Test
@@ -209,4 +224,50 @@ class MemberServiceTest {
         assertThatThrownBy(() -> memberService.reissue(validRefreshToken))
                 .isInstanceOf(InvalidCredentialsException.class);
     }
+
+    @Test
+    @DisplayName("로그아웃하면 Access Token이 폐기되고 Refresh Token이 삭제된다")
+    void logout_Success() {
+        // given
+        String email = "logout@example.com";
+        memberService.signup(new SignupRequestDto(email, "password123"));
+
+        Member member = memberRepository.findByEmail(email).orElseThrow();
+        member.verify();
+        memberRepository.saveAndFlush(member);
+
+        LoginResponseDto loginResponse = memberService.login(new LoginRequestDto(email, "password123"));
+
+        // when - 폐기 목록의 메모리 반영은 커밋 후이므로 테스트 트랜잭션을 커밋
+        memberService.logout(loginResponse.getAccessToken());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // then
+        String tokenId = jwtTokenProvider.resolveToken(loginResponse.getAccessToken()).tokenId();
+        assertThat(tokenRevocationService.isRevoked(tokenId)).isTrue();
+        assertThat(refreshTokenRepository.findByMemberId(member.getId())).isEmpty();
+
+        // 커밋한 데이터 정리
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("저장된 해시 비용이 설정과 다르면 로그인 성공 시 새 비용으로 재해싱된다")
+    void login_RehashesPasswordWhenCostChanged() {
+        // given - 이전 비용(4)으로 저장된 회원
+        String email = "rehash@example.com";
+        Member member = Member.createUser(email, "password123", new BCryptPasswordEncoder(4));
+        member.verify();
+        memberRepository.saveAndFlush(member);
+        assertThat(member.needsPasswordUpgrade(passwordEncoder)).isTrue();
+
+        // when
+        memberService.login(new LoginRequestDto(email, "password123"));
+
+        // then
+        Member rehashed = memberRepository.findByEmail(email).orElseThrow();
+        assertThat(rehashed.needsPasswordUpgrade(passwordEncoder)).isFalse();
+        assertThat(rehashed.matchesPassword("password123", passwordEncoder)).isTrue();
+    }
 }
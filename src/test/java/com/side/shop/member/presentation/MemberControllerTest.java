@@ -224,4 +224,13 @@ class MemberControllerTest {
         mockMvc.perform(post("/api/members/reissue")) // 쿠키 없이 요청
                 .andExpect(status().isBadRequest()); // MissingRequestCookieException -> 400
     }
+
+    @Test
+    @DisplayName("로그아웃 API - Authorization 헤더 누락 시 400")
+    void logout_MissingAuthorizationHeader() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/members/logout"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("MISSING_TOKEN"));
+    }
 }
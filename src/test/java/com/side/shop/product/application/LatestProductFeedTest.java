@@ -0,0 +1,226 @@
+package com.side.shop.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.config.datasource.ReadYourWritesGuard;
+import com.side.shop.config.datasource.ReplicaProperties;
+import com.side.shop.product.presentation.dto.ProductSearchCond;
+import com.side.shop.product.presentation.dto.ProductSearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+class LatestProductFeedTest {
+
+    private static final Pageable HOME = PageRequest.of(0, 20);
+
+    private final FakeProductService productService = new FakeProductService();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("조건 없는 최신순 첫 페이지만 피드로 응답한다")
+    void find_OnlyHomeRequest() {
+        // given
+        LatestProductFeed feed = feed(Runnable::run);
+        feed.refresh();
+
+        ProductSearchCond latest = new ProductSearchCond();
+        latest.setSortType(ProductSearchCond.SortType.LATEST);
+        ProductSearchCond byName = new ProductSearchCond();
+        byName.setName("나이키");
+        ProductSearchCond byPrice = new ProductSearchCond();
+        byPrice.setSortType(ProductSearchCond.SortType.PRICE_ASC);
+
+        // when & then
+        assertThat(feed.find(new ProductSearchCond(), HOME)).isPresent();
+        assertThat(feed.find(latest, HOME)).isPresent();
+        assertThat(feed.find(byName, HOME)).isEmpty();
+        assertThat(feed.find(byPrice, HOME)).isEmpty();
+        assertThat(feed.find(new ProductSearchCond(), PageRequest.of(1, 20))).isEmpty();
+        assertThat(feed.find(new ProductSearchCond(), PageRequest.of(0, 10))).isEmpty();
+        assertThat(feed.find(new ProductSearchCond(), PageRequest.of(0, 20, Sort.by("price")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아직 조회한 결과가 없으면 비어 있고 백그라운드 갱신을 요청한다")
+    void find_BeforeFirstLoad() {
+        // given
+        LatestProductFeed feed = feed(Runnable::run);
+        productService.products = List.of(result(1L));
+
+        // when
+        Optional<Page<ProductSearchResult>> first = feed.find(new ProductSearchCond(), HOME);
+        Optional<Page<ProductSearchResult>> second = feed.find(new ProductSearchCond(), HOME);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).hasValueSatisfying(page -> assertThat(page.getContent())
+                .extracting(ProductSearchResult::getId)
+                .containsExactly(1L));
+        assertThat(productService.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("갱신 중 DB가 느려도 기다리지 않고 이전 결과로 바로 응답한다")
+    void find_DoesNotWaitForRefresh() throws Exception {
+        // given
+        LatestProductFeed feed = feed(new SimpleAsyncTaskExecutor());
+        productService.products = List.of(result(1L));
+        feed.requestRefresh();
+        Page<ProductSearchResult> before = awaitFeed(feed, 1L);
+
+        CountDownLatch slowDb = new CountDownLatch(1);
+        productService.gate = slowDb;
+        productService.products = List.of(result(2L), result(1L));
+        feed.requestRefresh();
+        awaitCalls(2);
+
+        // when
+        long startedAt = System.nanoTime();
+        Optional<Page<ProductSearchResult>> during = feed.find(new ProductSearchCond(), HOME);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then - 갱신이 끝나기 전에는 이전 결과
+        assertThat(during).containsSame(before);
+        assertThat(elapsedMillis).isLessThan(100);
+
+        // 갱신이 끝나면 새 결과
+        slowDb.countDown();
+        assertThat(awaitFeed(feed, 2L).getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 결과를 유지한다")
+    void refresh_FailureKeepsPrevious() {
+        // given
+        LatestProductFeed feed = feed(Runnable::run);
+        productService.products = List.of(result(1L));
+        feed.refresh();
+        Page<ProductSearchResult> before = feed.find(new ProductSearchCond(), HOME).orElseThrow();
+
+        // when
+        productService.failure = new IllegalStateException("DB 연결 실패");
+        feed.refresh();
+
+        // then
+        assertThat(feed.find(new ProductSearchCond(), HOME)).containsSame(before);
+        assertThat(meterRegistry
+                        .get("product.latest.feed.refresh")
+                        .tag("result", "failure")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품 변경 커밋 이벤트를 받으면 피드를 갱신한다")
+    void handleProductChanged_Refreshes() {
+        // given
+        LatestProductFeed feed = feed(Runnable::run);
+        feed.refresh();
+        productService.products = List.of(result(7L));
+
+        // when
+        feed.handleProductChanged(new ProductChangedEvent(7L));
+
+        // then
+        assertThat(feed.find(new ProductSearchCond(), HOME).orElseThrow().getContent())
+                .extracting(ProductSearchResult::getId)
+                .containsExactly(7L);
+        assertThat(productService.calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경 커밋 직후 갱신만 primary에서 조회한다 (복제 지연)")
+    void handleProductChanged_ReadsPrimary() {
+        // given
+        LatestProductFeed feed = feed(Runnable::run);
+
+        // when
+        feed.refresh();
+        feed.handleProductChanged(new ProductChangedEvent(7L));
+        feed.refresh();
+
+        // then
+        assertThat(productService.primaryReads).containsExactly(false, true, false);
+    }
+
+    private LatestProductFeed feed(TaskExecutor executor) {
+        return new LatestProductFeed(productService, executor, meterRegistry, true, 20, Duration.ofSeconds(30));
+    }
+
+    private Page<ProductSearchResult> awaitFeed(LatestProductFeed feed, Long firstId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            Optional<Page<ProductSearchResult>> page = feed.find(new ProductSearchCond(), HOME);
+            if (page.isPresent() && firstId.equals(page.get().getContent().get(0).getId())) {
+                return page.get();
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("피드가 갱신되지 않았습니다: " + firstId);
+    }
+
+    private void awaitCalls(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (productService.calls.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(productService.calls).hasValue(expected);
+    }
+
+    private static ProductSearchResult result(Long id) {
+        return new ProductSearchResult(
+                id, "상품" + id, "나이키", "black", 10000, null, null, null, null, LocalDateTime.now());
+    }
+
+    /**
+     * 검색 결과를 지정할 수 있는 ProductService (gate가 있으면 열릴 때까지 대기: 느린 DB)
+     */
+    static class FakeProductService extends ProductService {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final List<Boolean> primaryReads = Collections.synchronizedList(new ArrayList<>());
+        private final ReadYourWritesGuard guard = new ReadYourWritesGuard(new ReplicaProperties());
+        volatile List<ProductSearchResult> products = List.of();
+        volatile CountDownLatch gate;
+        volatile RuntimeException failure;
+
+        FakeProductService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public Page<ProductSearchResult> searchProducts(ProductSearchCond condition, Pageable pageable) {
+            calls.incrementAndGet();
+            primaryReads.add(guard.mustReadPrimary());
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return new PageImpl<>(products, pageable, products.size());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.side.shop.product.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.common.presentation.dto.FieldSelection;
+import com.side.shop.config.datasource.ReadYourWritesGuard;
+import com.side.shop.config.datasource.ReplicaProperties;
+import com.side.shop.member.domain.MemberRole;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import com.side.shop.security.auth.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ProductReadCoalescerTest {
+
+    private static final FieldSelection ALL = FieldSelection.all(ProductDetailDto.FIELDS);
+
+    private final BlockingProductService productService = new BlockingProductService();
+    private final ReadYourWritesGuard guard = new ReadYourWritesGuard(new ReplicaProperties());
+    private final ProductReadCoalescer coalescer = new ProductReadCoalescer(
+            productService,
+            new StaticListableBeanFactory(Map.of("readYourWritesGuard", guard))
+                    .getBeanProvider(ReadYourWritesGuard.class),
+            new SimpleMeterRegistry(),
+            true,
+            Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        productService.release.countDown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("자기 쓰기 직후라 primary에서 읽어야 하는 요청은 실행 중인 조회에 합치지 않고 직접 조회한다")
+    void getProductDetail_DoesNotJoinWhenPrimaryRequired() throws Exception {
+        // given: 다른 요청의 조회가 실행 중
+        CompletableFuture<ProductDetailDto> other =
+                CompletableFuture.supplyAsync(() -> coalescer.getProductDetail(1L, ALL));
+        assertThat(productService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 방금 쓰기를 커밋한 회원의 같은 상품 조회
+        authenticate(1001L);
+        guard.recordWrite(1001L);
+        ProductDetailDto own = coalescer.getProductDetail(1L, ALL);
+
+        // then
+        assertThat(own).isNotNull();
+        assertThat(productService.calls).hasValue(2);
+        productService.release.countDown();
+        assertThat(other.get(5, TimeUnit.SECONDS)).isNotSameAs(own);
+    }
+
+    private static void authenticate(Long memberId) {
+        CustomUserDetails user = new CustomUserDetails(memberId, "member" + memberId + "@example.com", MemberRole.USER);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    /**
+     * 첫 조회는 release 될 때까지 대기 (실행 중인 조회), 이후 조회는 바로 반환
+     */
+    static class BlockingProductService extends ProductService {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingProductService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public ProductDetailDto getProductDetail(Long productId, FieldSelection fields) {
+            if (calls.incrementAndGet() == 1) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new ProductDetailDto();
+        }
+    }
+}
@@ -3,16 +3,30 @@ package com.side.shop.product.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.side.shop.common.infrastructure.jpa.QueryBudget;
 import com.side.shop.product.domain.Product;
+import com.side.shop.product.exception.DuplicateProductImageException;
 import com.side.shop.product.infrastructure.ProductRepository;
 import com.side.shop.product.presentation.dto.CreateProductDto;
+import com.side.shop.product.presentation.dto.CreateProductImageUploadDto;
+import com.side.shop.product.presentation.dto.CreateProductOptionDto;
+import com.side.shop.product.presentation.dto.ProductDetailDto;
+import com.side.shop.product.presentation.dto.ProductImageDto;
+import com.side.shop.product.presentation.dto.ProductImageUploadUrlDto;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -25,6 +39,9 @@ class ProductServiceTest {
     @Autowired
     ProductService productService;
 
+    @Autowired
+    EntityManager em;
+
     @Test
     @DisplayName("상품 생성 시 이미지 URL 저장")
     void create_product_save_image_url() {
@@ -46,4 +63,158 @@ class ProductServiceTest {
         assertThat(product.getImages()).hasSize(2);
         assertThat(product.getImages()).anyMatch(image -> image.getImageUrl().contains("https://fake/"));
     }
+
+    @Test
+    @DisplayName("상품 생성 시 이미지 크기와 미리보기 저장")
+    void create_product_save_image_preview() {
+        // given
+        CreateProductDto dto = new CreateProductDto("나이키 에어포스", "나이키", "설명입니다.", "white", 100000);
+        MockMultipartFile image =
+                new MockMultipartFile("images", "shoe1.jpg", "image/jpeg", "fake-image-1".getBytes());
+
+        // when
+        Long productId = productService.createProduct(dto, List.of(image));
+
+        // then
+        ProductDetailDto detail = productService.getProductDetail(productId);
+        assertThat(detail.getImages()).hasSize(1);
+        assertThat(detail.getImages().get(0).getWidth()).isEqualTo(800);
+        assertThat(detail.getImages().get(0).getHeight()).isEqualTo(600);
+        assertThat(detail.getImages().get(0).getPlaceholder()).startsWith("data:image/jpeg;base64,");
+    }
+
+    @Test
+    @DisplayName("Presigned URL 발급 후 업로드 완료 콜백으로 이미지 등록")
+    void presigned_upload_registers_images() {
+        // given
+        Long productId =
+                productService.createProduct(new CreateProductDto("나이키 덩크", "나이키", "설명입니다.", "black", 130000));
+
+        CreateProductImageUploadDto file = new CreateProductImageUploadDto();
+        file.setFileName("dunk.png");
+        file.setContentType("image/png");
+        file.setSize(1024);
+
+        // when
+        List<ProductImageUploadUrlDto> uploadUrls = productService.issueImageUploadUrls(productId, List.of(file));
+        List<String> keys = uploadUrls.stream().map(ProductImageUploadUrlDto::getKey).toList();
+        productService.completeImageUpload(productId, keys);
+
+        // then
+        assertThat(uploadUrls).hasSize(1);
+        assertThat(uploadUrls.get(0).getKey()).startsWith("products/" + productId + "/images/");
+
+        Product product = productRepository.findById(productId).get();
+        assertThat(product.getImages()).hasSize(1);
+        assertThat(product.getImages().get(0).isThumbnail()).isTrue();
+    }
+
+    @Test
+    @DisplayName("업로드 완료 콜백의 중복 키는 한 번만 등록하고, 다시 온 콜백은 거절한다")
+    void presigned_upload_ignores_duplicate_keys() {
+        // given
+        Long productId =
+                productService.createProduct(new CreateProductDto("나이키 덩크", "나이키", "설명입니다.", "black", 130000));
+        String key = "products/" + productId + "/images/dunk.png";
+
+        // when
+        productService.completeImageUpload(productId, List.of(key, key));
+
+        // then
+        assertThrows(
+                IllegalArgumentException.class, () -> productService.completeImageUpload(productId, List.of(key)));
+
+        em.flush();
+        em.clear();
+        Product product = productRepository.findById(productId).get();
+        assertThat(product.getImages()).hasSize(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 두 콜백이 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행
+    @DisplayName("같은 키의 업로드 완료 콜백이 동시에 와도 한 번만 등록되고 썸네일은 하나다")
+    void presigned_upload_concurrent_callbacks() throws Exception {
+        // given
+        Long productId =
+                productService.createProduct(new CreateProductDto("나이키 덩크", "나이키", "설명입니다.", "black", 130000));
+        String key = "products/" + productId + "/images/dunk.png";
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            // when
+            List<CompletableFuture<Long>> callbacks = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                callbacks.add(CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return productService.completeImageUpload(productId, List.of(key));
+                }));
+            }
+            start.countDown();
+
+            // then
+            int succeeded = 0;
+            for (CompletableFuture<Long> callback : callbacks) {
+                try {
+                    callback.get(10, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(DuplicateProductImageException.class);
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+
+            List<ProductImageDto> images = productService.getProductDetail(productId).getImages();
+            assertThat(images).hasSize(1);
+            assertThat(images.get(0).isThumbnail()).isTrue();
+        } finally {
+            productService.deleteProduct(productId);
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품에는 Presigned URL을 발급하지 않는다")
+    void presigned_upload_fail_unknown_product() {
+        CreateProductImageUploadDto file = new CreateProductImageUploadDto();
+        file.setFileName("dunk.png");
+        file.setContentType("image/png");
+        file.setSize(1024);
+
+        assertThrows(
+                IllegalArgumentException.class, () -> productService.issueImageUploadUrls(999999L, List.of(file)));
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회는 상품+옵션 1번, 이미지 1번 쿼리로 끝난다")
+    void get_product_detail_query_budget() {
+        // given
+        CreateProductDto dto = new CreateProductDto("나이키 에어포스", "나이키", "설명입니다.", "white", 100000);
+        MockMultipartFile image =
+                new MockMultipartFile("images", "shoe1.jpg", "image/jpeg", "fake-image-1".getBytes());
+        Long productId = productService.createProduct(dto, List.of(image));
+        productService.createOptions(productId, List.of(option(250, 10), option(260, 5)));
+        em.flush();
+        em.clear();
+
+        // when
+        ProductDetailDto detail = QueryBudget.expect(2, () -> productService.getProductDetail(productId));
+
+        // then
+        assertThat(detail.getOptions()).hasSize(2);
+        assertThat(detail.getImages()).hasSize(1);
+    }
+
+    private CreateProductOptionDto option(int size, int stock) {
+        CreateProductOptionDto option = new CreateProductOptionDto();
+        option.setSize(size);
+        option.setStock(stock);
+        return option;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.side.shop.product.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -77,4 +78,20 @@ class ProductTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("존재하지 않는 옵션입니다.");
     }
+
+    @Test
+    @DisplayName("이미지를 나눠서 추가해도 썸네일은 첫 이미지 하나만 지정된다")
+    void add_images_keeps_single_thumbnail() {
+        // given
+        Product product = Product.create("상품", "브랜드", "설명", "white", 1000);
+        product.addImages(List.of("https://fake/1.jpg", "https://fake/2.jpg"));
+
+        // when
+        product.addImages(List.of("https://fake/3.jpg"));
+
+        // then
+        assertThat(product.getImages()).hasSize(3);
+        assertThat(product.getImages()).filteredOn(ProductImage::isThumbnail).hasSize(1);
+        assertThat(product.getImages().get(2).getSortOrder()).isEqualTo(2);
+    }
 }
@@ -3,6 +3,8 @@ package com.side.shop.product.infrastructure;
 import static com.side.shop.product.presentation.dto.ProductSearchCond.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.side.shop.common.infrastructure.jpa.QueryBudget;
+import com.side.shop.common.presentation.dto.FieldSelection;
 import com.side.shop.product.domain.Product;
 import com.side.shop.product.domain.ProductOption;
 import com.side.shop.product.presentation.dto.ProductSearchCond;
@@ -182,4 +184,89 @@ class ProductRepositoryImplTest {
         assertThat(result.getContent().get(0)).extracting("price").isEqualTo(13000);
         assertThat(result.getContent().get(4)).extracting("price").isEqualTo(5000);
     }
+
+    @Test
+    @DisplayName("필드 선택 - 선택한 컬럼만 조회하고 썸네일 필드가 없으면 이미지를 조인하지 않는다")
+    void search_with_selected_fields() {
+        // given
+        ProductSearchCond cond = new ProductSearchCond();
+        cond.setSortType(ProductSearchCond.SortType.PRICE_ASC);
+        FieldSelection fields = FieldSelection.parse("id,name,price", ProductSearchResult.FIELDS);
+
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Page<ProductSearchResult> result = productRepository.searchProducts(cond, pageRequest, fields);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(15);
+        ProductSearchResult first = result.getContent().get(0);
+        assertThat(first.getId()).isNotNull();
+        assertThat(first.getName()).isEqualTo("상품1");
+        assertThat(first.getPrice()).isEqualTo(1000);
+        assertThat(first.getBrand()).isNull();
+        assertThat(first.getThumbnailUrl()).isNull();
+        assertThat(first.getCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("필드 선택 - 썸네일 필드를 선택하면 썸네일 이미지를 함께 조회한다")
+    void search_with_thumbnail_field() {
+        // given
+        ProductSearchCond cond = new ProductSearchCond();
+        FieldSelection fields = FieldSelection.parse("id,thumbnailUrl", ProductSearchResult.FIELDS);
+
+        PageRequest pageRequest = PageRequest.of(0, 20);
+
+        // when
+        Page<ProductSearchResult> result = productRepository.searchProducts(cond, pageRequest, fields);
+
+        // then - 상품당 이미지 3장 중 썸네일 1장만 조인
+        assertThat(result.getContent()).hasSize(15);
+        assertThat(result.getContent()).allMatch(p -> "https://fake/1.jpg".equals(p.getThumbnailUrl()));
+        assertThat(result.getContent()).allMatch(p -> p.getName() == null);
+    }
+
+    @Test
+    @DisplayName("재고 필터 - 해당 사이즈 재고가 0인 상품은 재고 필터를 켜면 제외된다")
+    void search_in_stock_only() {
+        // given
+        Product soldOut = Product.create("품절상품", "나이키", "설명", "black", 50000);
+        soldOut.addOption(ProductOption.create(240, 0));
+        soldOut.addOption(ProductOption.create(250, 3));
+        productRepository.save(soldOut);
+        em.flush();
+        em.clear();
+
+        ProductSearchCond cond = new ProductSearchCond();
+        cond.setProductSize(240);
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Page<ProductSearchResult> all = productRepository.searchProducts(cond, pageRequest);
+        cond.setInStockOnly(true);
+        Page<ProductSearchResult> inStock = productRepository.searchProducts(cond, pageRequest);
+
+        // then
+        assertThat(all.getContent()).extracting("name").containsExactly("품절상품");
+        assertThat(all.getContent().get(0).getAvailableSizes()).containsExactly(250);
+        assertThat(inStock.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 있는 사이즈 - 페이지 상품 전체의 사이즈를 쿼리 1번으로 채운다 (목록 + 사이즈 + 카운트)")
+    void search_available_sizes_batched() {
+        // given
+        ProductSearchCond cond = new ProductSearchCond();
+        PageRequest pageRequest = PageRequest.of(0, 10);
+
+        // when
+        Page<ProductSearchResult> result =
+                QueryBudget.expect(3, () -> productRepository.searchProducts(cond, pageRequest));
+
+        // then
+        assertThat(result.getContent()).hasSize(10);
+        assertThat(result.getContent()).allSatisfy(item -> assertThat(item.getAvailableSizes())
+                .containsExactly(220, 230));
+    }
 }
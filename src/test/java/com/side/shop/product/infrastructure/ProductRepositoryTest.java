@@ -2,10 +2,13 @@ package com.side.shop.product.infrastructure;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.side.shop.common.infrastructure.jpa.QueryBudget;
 import com.side.shop.product.domain.Product;
 import com.side.shop.product.domain.ProductOption;
 import jakarta.persistence.EntityManager;
 import java.util.List;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -114,4 +117,65 @@ class ProductRepositoryTest {
         assertThat(productDetail.getId()).isEqualTo(savedProduct.getId());
         assertThat(productDetail.getOptions().size()).isEqualTo(3);
     }
+
+    @Test
+    @DisplayName("상품 상세 조회는 옵션 수와 관계없이 쿼리 1번으로 옵션까지 가져온다")
+    void get_product_detail_query_budget() {
+        // given
+        Product product = Product.create("뉴발란스 860 V2 블랙", "뉴발란스", "상세 설명", "black", 169000);
+        product.addOption(ProductOption.create(220, 10));
+        product.addOption(ProductOption.create(230, 20));
+        product.addOption(ProductOption.create(240, 30));
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+
+        // when & then
+        int optionCount = QueryBudget.expect(
+                1, () -> productRepository.findDetailById(product.getId()).orElseThrow().getOptions().size());
+        assertThat(optionCount).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 설명은 상품 조회 때 가져오지 않고 처음 읽을 때 따로 조회한다")
+    void description_lazy_loading() {
+        // given
+        Product product = Product.create("나이키 페가수스", "나이키", "긴 상품 설명", "black", 139000);
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+
+        // when
+        Product findProduct = QueryBudget.expect(1, () -> productRepository.findById(product.getId()).orElseThrow());
+
+        // then
+        assertThat(Hibernate.isPropertyInitialized(findProduct, "description")).isFalse();
+        assertThat(QueryBudget.expect(1, findProduct::getDescription)).isEqualTo("긴 상품 설명");
+        assertThat(Hibernate.isPropertyInitialized(findProduct, "description")).isTrue();
+    }
+
+    @Test
+    @DisplayName("변경 추적: 바꾼 속성만 변경 대상으로 기록되고 플러시 후 반영된다")
+    void dirty_tracking() {
+        // given
+        Product product = Product.create("나이키 페가수스", "나이키", "상품 설명", "black", 139000);
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+        Product findProduct = productRepository.findById(product.getId()).orElseThrow();
+
+        // when
+        findProduct.updateInfo("나이키 페가수스 41", "새 상품 설명");
+
+        // then
+        assertThat(findProduct).isInstanceOf(SelfDirtinessTracker.class);
+        assertThat(((SelfDirtinessTracker) findProduct).$$_hibernate_getDirtyAttributes())
+                .containsExactlyInAnyOrder("name", "description");
+
+        em.flush();
+        em.clear();
+        Product updated = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(updated.getName()).isEqualTo("나이키 페가수스 41");
+        assertThat(updated.getDescription()).isEqualTo("새 상품 설명");
+    }
 }
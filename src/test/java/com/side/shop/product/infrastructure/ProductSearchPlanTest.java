@@ -0,0 +1,211 @@
+package com.side.shop.product.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.side.shop.product.presentation.dto.ProductSearchCond;
+import com.side.shop.product.presentation.dto.ProductSearchResult;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL + Flyway 마이그레이션 스키마에서 상품 검색 쿼리의 실행 계획 확인
+ *
+ * 쿼리는 ProductRepositoryImpl.searchProducts가 만드는 SQL과 같은 형태
+ * (썸네일 부분 조인, 사이즈는 EXISTS, ORDER BY 정렬 컬럼 + id, LIMIT)
+ * Docker가 없으면 건너뛴다.
+ */
+@SpringBootTest(properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=validate"})
+@Testcontainers(disabledWithoutDocker = true)
+class ProductSearchPlanTest {
+
+    private static final int PRODUCT_COUNT = 50_000;
+
+    private static final String SEARCH_SQL =
+            """
+            SELECT p.id, p.name, p.brand, p.color, p.price,
+                   pi.image_url, pi.width, pi.height, pi.placeholder, p.created_at
+            FROM product p
+            LEFT JOIN product_image pi ON pi.product_id = p.id AND pi.thumbnail
+            WHERE %s
+            ORDER BY %s
+            LIMIT 20
+            """;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM product", Integer.class);
+        if (count != null && count > 0) {
+            return;
+        }
+
+        // 상품 5만 개, 상품당 옵션 5개(연속 사이즈), 이미지 3장(첫 장 썸네일)
+        jdbcTemplate.update(
+                """
+                INSERT INTO product (id, name, brand, description, color, price, created_at, last_modified_at)
+                SELECT g, 'Model ' || g, 'Brand ' || (g % 20), '설명',
+                       (ARRAY['BLACK', 'WHITE', 'RED', 'BLUE', 'GREEN', 'GRAY', 'NAVY', 'BEIGE'])[1 + g % 8],
+                       10000 + (g * 7919) % 290000,
+                       now() - g * interval '1 minute', now()
+                FROM generate_series(1, ?) g
+                """,
+                PRODUCT_COUNT);
+        jdbcTemplate.update(
+                """
+                INSERT INTO product_option (id, product_id, product_size, stock, created_at, last_modified_at)
+                SELECT p * 5 + s, p, 220 + 5 * ((p + s) % 17), (p + s) % 10, now(), now()
+                FROM generate_series(1, ?) p, generate_series(0, 4) s
+                """,
+                PRODUCT_COUNT);
+        jdbcTemplate.update(
+                """
+                INSERT INTO product_image
+                    (id, product_id, image_url, sort_order, thumbnail, created_at, last_modified_at)
+                SELECT p * 3 + i, p, 'https://cdn.example.com/' || p || '/' || i || '.jpg', i, i = 0, now(), now()
+                FROM generate_series(1, ?) p, generate_series(0, 2) i
+                """,
+                PRODUCT_COUNT);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("정렬만 있으면 정렬별 인덱스를 순서대로 읽고, 썸네일은 부분 인덱스로 조인한다")
+    void sortOnly_UsesSortIndex() {
+        assertThat(explain("TRUE", "p.created_at DESC, p.id DESC"))
+                .contains("idx_product_created_at", "uk_product_image_thumbnail")
+                .doesNotContain("Sort");
+        assertThat(explain("TRUE", "p.price, p.id"))
+                .contains("idx_product_price")
+                .doesNotContain("Sort");
+        assertThat(explain("TRUE", "p.price DESC, p.id DESC"))
+                .contains("Index Scan Backward using idx_product_price")
+                .doesNotContain("Sort");
+        assertThat(explain("TRUE", "p.name, p.id")).contains("idx_product_name").doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("색상 필터는 색상 + 정렬 복합 인덱스를 사용한다")
+    void colorFilter_UsesCompositeIndex() {
+        String color = "p.color = 'BLACK'";
+
+        assertThat(explain(color, "p.created_at DESC, p.id DESC"))
+                .contains("idx_product_color_created_at")
+                .doesNotContain("Sort");
+        assertThat(explain(color, "p.price, p.id"))
+                .contains("idx_product_color_price")
+                .doesNotContain("Sort");
+        assertThat(explain(color, "p.name, p.id"))
+                .contains("idx_product_color_name")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("가격 범위 + 가격순은 가격 인덱스 범위 스캔으로 처리한다")
+    void priceRange_UsesPriceIndex() {
+        assertThat(explain("p.price BETWEEN 50000 AND 60000", "p.price, p.id"))
+                .contains("idx_product_price")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("사이즈 필터는 상품별 옵션 인덱스로 EXISTS를 확인한다")
+    void sizeFilter_UsesOptionIndex() {
+        String size = "EXISTS (SELECT 1 FROM product_option po WHERE po.product_id = p.id AND po.product_size = 260)";
+
+        assertThat(explain(size, "p.created_at DESC, p.id DESC"))
+                .contains("idx_product_created_at", "idx_product_option_product_size")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("재고 필터는 재고 있는 옵션 부분 인덱스로 EXISTS를 확인한다")
+    void inStockFilter_UsesPartialIndex() {
+        String inStock = "EXISTS (SELECT 1 FROM product_option po WHERE po.product_id = p.id AND po.stock > 0)";
+        String sizeInStock = "EXISTS (SELECT 1 FROM product_option po"
+                + " WHERE po.product_id = p.id AND po.product_size = 260 AND po.stock > 0)";
+
+        assertThat(explain(inStock, "p.created_at DESC, p.id DESC"))
+                .contains("idx_product_created_at", "idx_product_option_in_stock")
+                .doesNotContain("Sort");
+        assertThat(explain(sizeInStock, "p.price, p.id"))
+                .contains("idx_product_price", "idx_product_option_in_stock")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    @DisplayName("목록의 재고 있는 사이즈는 페이지 상품 전체를 부분 인덱스로 한 번에 읽는다")
+    void availableSizes_UsesPartialIndex() {
+        // ProductRepositoryImpl.findAvailableSizes 와 같은 형태 (페이지 크기 20)
+        String productIds = IntStream.rangeClosed(1, 20).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        List<String> plan = jdbcTemplate.queryForList(
+                """
+                EXPLAIN SELECT po.product_id, po.product_size FROM product_option po
+                WHERE po.product_id IN (%s) AND po.stock > 0
+                ORDER BY po.product_size
+                """
+                        .formatted(productIds),
+                String.class);
+
+        assertThat(String.join("\n", plan)).contains("idx_product_option_in_stock");
+    }
+
+    @Test
+    @DisplayName("상품명 부분 검색은 트라이그램 인덱스를 사용한다")
+    void nameContains_UsesTrigramIndex() {
+        assertThat(explain("lower(p.name) LIKE '%12345%'", "p.created_at DESC, p.id DESC"))
+                .contains("idx_product_name_trgm");
+    }
+
+    @Test
+    @DisplayName("마이그레이션 스키마에서 조건을 모두 지정한 상품 검색이 동작한다")
+    void searchProducts_OnMigratedSchema() {
+        // given
+        ProductSearchCond cond = new ProductSearchCond();
+        cond.setColor("BLACK");
+        cond.setProductSize(260);
+        cond.setMinPrice(10000);
+        cond.setMaxPrice(300000);
+        cond.setInStockOnly(true);
+        cond.setSortType(ProductSearchCond.SortType.PRICE_ASC);
+
+        // when
+        Page<ProductSearchResult> page = productRepository.searchProducts(cond, PageRequest.of(0, 20));
+
+        // then
+        List<ProductSearchResult> content = page.getContent();
+        assertThat(content).hasSize(20);
+        assertThat(content).allSatisfy(result -> {
+            assertThat(result.getColor()).isEqualTo("BLACK");
+            assertThat(result.getThumbnailUrl()).endsWith("/0.jpg");
+            assertThat(result.getAvailableSizes()).contains(260);
+        });
+        assertThat(content).extracting(ProductSearchResult::getPrice).isSorted();
+    }
+
+    private String explain(String where, String orderBy) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + SEARCH_SQL.formatted(where, orderBy), String.class);
+        return String.join("\n", plan);
+    }
+}
@@ -0,0 +1,111 @@
+package com.side.shop.product.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.side.shop.common.infrastructure.jpa.QueryCounter;
+import com.side.shop.product.domain.Product;
+import com.side.shop.product.domain.ProductOption;
+import com.side.shop.product.infrastructure.ProductRepository;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class ProductControllerTest {
+
+    private static final String PRODUCT_NAME = "필드 선택 테스트 상품";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.create(PRODUCT_NAME, "나이키", "설명", "black", 100000);
+        product.addOption(ProductOption.create(260, 5));
+        product.addImages(List.of("https://fake/1.jpg", "https://fake/2.jpg"));
+        productRepository.save(product);
+        em.flush();
+        em.clear();
+        productId = product.getId();
+    }
+
+    @Test
+    @DisplayName("목록: fields를 지정하면 선택한 필드만 응답한다")
+    void search_SelectedFieldsOnly() throws Exception {
+        mockMvc.perform(get("/api/products").param("name", PRODUCT_NAME).param("fields", "id,name,price,thumbnailUrl"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(productId))
+                .andExpect(jsonPath("$.content[0].name").value(PRODUCT_NAME))
+                .andExpect(jsonPath("$.content[0].price").value(100000))
+                .andExpect(jsonPath("$.content[0].thumbnailUrl").value("https://fake/1.jpg"))
+                .andExpect(jsonPath("$.content[0].brand").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.content[0].thumbnailWidth").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("목록: fields가 없으면 전체 필드를 응답한다")
+    void search_AllFieldsByDefault() throws Exception {
+        mockMvc.perform(get("/api/products").param("name", PRODUCT_NAME))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].brand").value("나이키"))
+                .andExpect(jsonPath("$.content[0].createdAt").exists())
+                .andExpect(jsonPath("$.content[0].availableSizes[0]").value(260))
+                .andExpect(jsonPath("$.content[0].thumbnailUrl").value("https://fake/1.jpg"));
+    }
+
+    @Test
+    @DisplayName("없는 필드를 지정하면 400")
+    void search_UnknownField() throws Exception {
+        mockMvc.perform(get("/api/products").param("fields", "id,description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_FIELDS"));
+    }
+
+    @Test
+    @DisplayName("상세: 옵션/이미지를 선택하지 않으면 상품만 조회한다 (쿼리 1번)")
+    void detail_WithoutCollections() throws Exception {
+        // given
+        long before = QueryCounter.current();
+
+        // when & then
+        mockMvc.perform(get("/api/products/{productId}", productId).param("fields", "name,price"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(PRODUCT_NAME))
+                .andExpect(jsonPath("$.price").value(100000))
+                .andExpect(jsonPath("$.brand").doesNotExist())
+                .andExpect(jsonPath("$.options").doesNotExist())
+                .andExpect(jsonPath("$.images").doesNotExist());
+        assertThat(QueryCounter.current() - before).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상세: 선택한 컬렉션만 응답한다")
+    void detail_SelectedCollection() throws Exception {
+        mockMvc.perform(get("/api/products/{productId}", productId).param("fields", "name,images"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.images.length()").value(2))
+                .andExpect(jsonPath("$.options").doesNotExist());
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -277,4 +278,40 @@ class SecurityIntegrationTest {
                         .header("Authorization", "Bearer " + newAccessToken))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("로그아웃한 Access Token으로 요청 시 401 TOKEN_REVOKED 응답을 받는다")
+    void logout_RevokesAccessToken() throws Exception {
+        // given - 관리자 계정 생성 및 로그인
+        String email = "admin_logout@example.com";
+        String password = "password123";
+        Member admin = Member.createAdmin(email, password, passwordEncoder);
+        memberRepository.save(admin);
+
+        MvcResult loginResult = mockMvc.perform(post("/api/members/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDto(email, password))))
+                .andExpect(status().isOk())
+                .andReturn();
+        LoginResponseDto loginResponse =
+                objectMapper.readValue(loginResult.getResponse().getContentAsString(), LoginResponseDto.class);
+        String accessToken = loginResponse.getAccessToken();
+
+        // when - 로그아웃 (폐기 목록의 메모리 반영은 커밋 후이므로 테스트 트랜잭션을 커밋)
+        mockMvc.perform(post("/api/members/logout").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // then - 만료 전이라도 폐기된 토큰은 거부
+        mockMvc.perform(post("/api/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("TOKEN_REVOKED"));
+
+        // 커밋한 데이터 정리
+        memberRepository.deleteById(admin.getId());
+    }
 }
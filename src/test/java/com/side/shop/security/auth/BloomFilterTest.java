@@ -0,0 +1,57 @@
+package com.side.shop.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다 (거짓 음성 없음)")
+    void mightContain_NoFalseNegative() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String value = UUID.randomUUID().toString();
+            values.add(value);
+            filter.put(value);
+        }
+
+        // when & then
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률은 목표치 근처로 유지된다")
+    void mightContain_FalsePositiveRate() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then - 목표 0.1%, 여유를 두고 0.5% 미만
+        assertThat(falsePositives).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("잘못된 크기나 오탐률로는 생성할 수 없다")
+    void create_InvalidArguments() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
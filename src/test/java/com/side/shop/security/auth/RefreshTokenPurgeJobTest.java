@@ -0,0 +1,58 @@
+package com.side.shop.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = {"app.refresh-token.purge.batch-size=2", "app.refresh-token.purge.pause=0ms"})
+@Transactional
+class RefreshTokenPurgeJobTest {
+
+    @Autowired
+    private RefreshTokenPurgeJob refreshTokenPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("만료된 Refresh Token만 배치 단위로 삭제된다")
+    void purge_ExpiredTokensOnly() {
+        // given - 만료 5건, 유효 2건
+        Instant now = Instant.now();
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            saveToken(memberId, now.minusSeconds(60));
+        }
+        saveToken(100L, now.plusSeconds(3600));
+        saveToken(101L, now.plusSeconds(3600));
+        refreshTokenRepository.flush();
+
+        double purgedBefore = meterRegistry.counter("refresh.tokens.purged").count();
+
+        // when - 배치 크기 2 → 2, 2, 1 세 번에 나누어 삭제
+        long purged = refreshTokenPurgeJob.purge(now);
+
+        // then
+        assertThat(purged).isEqualTo(5);
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("refresh.tokens.purged").count() - purgedBefore)
+                .isEqualTo(5);
+        assertThat(meterRegistry.timer("refresh.tokens.purge.batch").count()).isGreaterThanOrEqualTo(3);
+    }
+
+    private void saveToken(Long memberId, Instant expiryDate) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .memberId(memberId)
+                .token("refresh-token-" + memberId)
+                .expiryDate(expiryDate)
+                .build());
+    }
+}
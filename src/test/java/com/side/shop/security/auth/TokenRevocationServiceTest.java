@@ -0,0 +1,94 @@
+package com.side.shop.security.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class TokenRevocationServiceTest {
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    @DisplayName("폐기한 토큰은 폐기된 것으로 판단하고, 그 외 토큰은 통과한다")
+    void revoke() {
+        // given
+        String jti = UUID.randomUUID().toString();
+
+        // when
+        tokenRevocationService.revoke(jti, Instant.now().plusSeconds(3600));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(jti)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(UUID.randomUUID().toString()))
+                .isFalse();
+        assertThat(tokenRevocationService.isRevoked(null)).isFalse();
+
+        // 커밋한 데이터 정리
+        revokedTokenRepository.deleteById(jti);
+    }
+
+    @Test
+    @DisplayName("폐기한 트랜잭션이 롤백되면 폐기되지 않은 것으로 판단한다")
+    void revoke_RolledBack() {
+        // given
+        String jti = UUID.randomUUID().toString();
+
+        // when - 커밋 전에는 메모리에 반영하지 않고, 롤백되면 반영하지 않는다
+        tokenRevocationService.revoke(jti, Instant.now().plusSeconds(3600));
+        boolean beforeCommit = tokenRevocationService.isRevoked(jti);
+        TestTransaction.end();
+
+        // then
+        assertThat(beforeCommit).isFalse();
+        assertThat(tokenRevocationService.isRevoked(jti)).isFalse();
+        assertThat(revokedTokenRepository.existsById(jti)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 증분 동기화 후 반영된다")
+    void sync_RevokedOnOtherNode() {
+        // given - 다른 노드가 DB에만 기록한 상황
+        String jti = UUID.randomUUID().toString();
+        revokedTokenRepository.saveAndFlush(new RevokedToken(jti, Instant.now().plusSeconds(3600), Instant.now()));
+
+        // when
+        tokenRevocationService.sync();
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(jti)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 시 만료된 폐기 항목은 삭제된다")
+    void rebuild_PurgesExpired() {
+        // given
+        String expiredJti = UUID.randomUUID().toString();
+        String activeJti = UUID.randomUUID().toString();
+        revokedTokenRepository.save(
+                new RevokedToken(expiredJti, Instant.now().minusSeconds(60), Instant.now().minusSeconds(3600)));
+        revokedTokenRepository.saveAndFlush(
+                new RevokedToken(activeJti, Instant.now().plusSeconds(3600), Instant.now()));
+
+        // when
+        tokenRevocationService.rebuild();
+
+        // then
+        assertThat(revokedTokenRepository.existsById(expiredJti)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(activeJti)).isTrue();
+    }
+}
@@ -3,6 +3,9 @@ package com.side.shop.security.jwt;
 import static org.assertj.core.api.Assertions.*;
 
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -157,4 +160,83 @@ class JwtTokenProviderTest {
         // when & then
         assertThatThrownBy(() -> jwtTokenProvider.validateToken(token)).isInstanceOf(ExpiredJwtException.class);
     }
+
+    @Test
+    @DisplayName("Access Token을 한 번에 검증하고 정보를 추출한다")
+    void resolveToken() {
+        // given
+        String token = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+
+        // when
+        TokenClaims claims = jwtTokenProvider.resolveToken(token);
+
+        // then
+        assertThat(claims.memberId()).isEqualTo(1L);
+        assertThat(claims.email()).isEqualTo("user@example.com");
+        assertThat(claims.role()).isEqualTo("USER");
+        assertThat(claims.expiresAt()).isAfter(Instant.now());
+        assertThat(claims.tokenId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Access Token마다 고유한 토큰 ID(jti)가 부여된다")
+    void generateToken_UniqueTokenId() {
+        // given
+        String first = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+        String second = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+
+        // when & then
+        assertThat(jwtTokenProvider.resolveToken(first).tokenId())
+                .isNotEqualTo(jwtTokenProvider.resolveToken(second).tokenId());
+    }
+
+    @Test
+    @DisplayName("이미 검증한 토큰은 캐시된 결과를 재사용한다")
+    void resolveToken_Cached() {
+        // given
+        String token = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+        TokenClaims first = jwtTokenProvider.resolveToken(token);
+
+        // when
+        TokenClaims second = jwtTokenProvider.resolveToken(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 조작된 토큰은 캐시와 관계없이 거부된다")
+    void resolveToken_Tampered() {
+        // given
+        String token = jwtTokenProvider.generateToken(1L, "user@example.com", "USER");
+        jwtTokenProvider.resolveToken(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.resolveToken(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("Refresh Token은 Access Token으로 사용할 수 없다")
+    void resolveToken_RefreshToken() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(1L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.resolveToken(refreshToken))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 resolveToken 시 예외가 발생한다")
+    void resolveToken_Expired() {
+        // given
+        JwtProperties expiredProperties = new JwtProperties();
+        expiredProperties.setSecret("test-secret-key-for-jwt-token-generation-must-be-at-least-256-bits");
+        expiredProperties.setExpiration(-1000L);
+        String token = new JwtTokenProvider(expiredProperties).generateToken(1L, "user@example.com", "USER");
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.resolveToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
 }
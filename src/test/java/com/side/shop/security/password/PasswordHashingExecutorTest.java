@@ -0,0 +1,81 @@
+package com.side.shop.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        // 스레드 1개, 대기열 1개
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setWaitTimeout(Duration.ofSeconds(5));
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        executor = new PasswordHashingExecutor(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 작업 결과를 반환한다")
+    void call() {
+        // when
+        String result = executor.call(() -> "hashed");
+
+        // then
+        assertThat(result).isEqualTo("hashed");
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 즉시 거절한다")
+    void call_RejectedWhenQueueFull() throws Exception {
+        // given - 작업 1개 실행 중, 1개 대기 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.call(() -> true));
+        Thread.sleep(100);
+
+        // when & then
+        assertThatThrownBy(() -> executor.call(() -> true))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .extracting("retryAfter")
+                .isEqualTo(Duration.ofSeconds(3));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("해싱 중 발생한 예외는 그대로 전달한다")
+    void call_PropagatesException() {
+        assertThatThrownBy(() -> executor.call(() -> {
+                    throw new IllegalArgumentException("잘못된 해시");
+                }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 해시");
+    }
+}
@@ -0,0 +1,95 @@
+package com.side.shop.security.ratelimit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.side.shop.member.presentation.dto.LoginRequestDto;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+        properties = {
+            "app.rate-limit.enabled=true",
+            "app.rate-limit.ip.capacity=3",
+            "app.rate-limit.ip.period=1h",
+            "app.rate-limit.email.capacity=2",
+            "app.rate-limit.email.period=1h"
+        })
+@AutoConfigureMockMvc
+@Transactional
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("같은 이메일로 제한을 넘게 로그인하면 429와 Retry-After를 받는다")
+    void login_EmailLimitExceeded() throws Exception {
+        // given - 이메일당 2회
+        String email = "limited@example.com";
+        mockMvc.perform(login("10.0.0.1", email)).andExpect(status().isUnauthorized());
+        mockMvc.perform(login("10.0.0.2", email)).andExpect(status().isUnauthorized());
+
+        // when & then - IP가 달라도 같은 이메일이면 거절 (대소문자 무시)
+        mockMvc.perform(login("10.0.0.3", "LIMITED@example.com"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 제한을 넘게 요청하면 이메일이 달라도 429를 받는다")
+    void login_IpLimitExceeded() throws Exception {
+        // given - IP당 3회
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(login("10.0.1.1", "user" + i + "@example.com")).andExpect(status().isUnauthorized());
+        }
+
+        // when & then
+        mockMvc.perform(login("10.0.1.1", "another@example.com")).andExpect(status().isTooManyRequests());
+        mockMvc.perform(post("/api/members/reissue").with(remoteAddr("10.0.1.1")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("끝 슬래시, 경로 매개변수, 대소문자가 달라도 같은 경로로 제한한다")
+    void login_PathVariantsLimited() throws Exception {
+        // given - IP당 3회를 경로 변형으로 소진
+        for (String path : List.of("/api/members/login/", "/api/members/login;jsessionid=abc", "/API/Members/LOGIN")) {
+            mockMvc.perform(post(path)
+                    .with(remoteAddr("10.0.2.1"))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}"));
+        }
+
+        // when & then
+        mockMvc.perform(login("10.0.2.1", "variant@example.com")).andExpect(status().isTooManyRequests());
+    }
+
+    private MockHttpServletRequestBuilder login(String ip, String email) throws Exception {
+        return post("/api/members/login")
+                .with(remoteAddr(ip))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequestDto(email, "password123")));
+    }
+
+    private static RequestPostProcessor remoteAddr(String ip) {
+        return request -> {
+            request.setRemoteAddr(ip);
+            return request;
+        };
+    }
+}
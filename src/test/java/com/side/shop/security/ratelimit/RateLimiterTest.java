@@ -0,0 +1,41 @@
+package com.side.shop.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("서로 다른 키로 요청이 계속 와도 버킷 수는 max-buckets를 넘지 않는다")
+    void tryAcquire_BoundedBuckets() {
+        // given
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(10);
+        RateLimiter rateLimiter = new RateLimiter(properties);
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule(5, Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:10.0.0." + i, rule)).isZero();
+        }
+
+        // then
+        assertThat(rateLimiter.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 버킷을 사용하여 용량을 넘으면 거절한다")
+    void tryAcquire_SameKeySharesBucket() {
+        // given
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties());
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule(2, Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("email:user@example.com", rule)).isZero();
+        assertThat(rateLimiter.tryAcquire("email:user@example.com", rule)).isZero();
+        assertThat(rateLimiter.tryAcquire("email:user@example.com", rule)).isPositive();
+    }
+}
@@ -0,0 +1,48 @@
+package com.side.shop.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 다음 토큰까지 남은 시간을 반환한다")
+    void tryConsume_UntilEmpty() {
+        // given - 10초에 5개 (2초에 1개씩 충전)
+        TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(10), 0);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(0)).isZero();
+        }
+        assertThat(bucket.tryConsume(0)).isCloseTo(2 * SECOND, within(1_000L));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워지고 용량을 넘지 않는다")
+    void tryConsume_Refill() {
+        // given
+        TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(10), 0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryConsume(0);
+        }
+
+        // when & then - 3초 후 1.5개 충전 → 1회만 허용
+        assertThat(bucket.tryConsume(3 * SECOND)).isZero();
+        assertThat(bucket.tryConsume(3 * SECOND)).isPositive();
+
+        // 오래 지나도 최대 5개까지만 허용
+        long later = 100 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(later)).isZero();
+        }
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+}